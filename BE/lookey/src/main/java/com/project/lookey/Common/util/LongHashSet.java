@@ -0,0 +1,86 @@
+package com.project.lookey.common.util;
+
+/**
+ * long 전용 오픈 어드레싱 해시 집합 (박싱 없이 대량의 키 보관용)
+ * - 선형 탐사, 적재율 0.5 초과 시 두 배로 확장
+ * - 스레드 안전하지 않음
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private boolean containsZero;
+    private int size;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) return containsZero;
+
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        keys = new long[newCapacity];
+        int mask = newCapacity - 1;
+
+        for (long key : oldKeys) {
+            if (key == EMPTY) continue;
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
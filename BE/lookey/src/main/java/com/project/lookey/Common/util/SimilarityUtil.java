@@ -1,5 +1,7 @@
 package com.project.lookey.common.util;
 
+import java.util.Arrays;
+
 /**
  * 간단한 문자열 유사도 계산 유틸리티
  * 시각장애인 사용자의 타이핑 오류를 보정하기 위한 기본적인 유사도 검색 기능 제공
@@ -17,90 +19,241 @@ public class SimilarityUtil {
     public static double calculateSimilarity(String query, String target) {
         if (query == null || target == null) return 0.0;
 
-        query = query.toLowerCase().trim();
-        target = target.toLowerCase().trim();
+        return calculateSimilarity(prepare(query), prepare(target));
+    }
+
+    /**
+     * 미리 정규화/분해해 둔 문자열로 유사도를 계산합니다
+     * calculateSimilarity(String, String)과 같은 결과를 반환하며, 같은 대상과 여러 번 비교할 때 분해 비용을 줄입니다
+     */
+    public static double calculateSimilarity(Prepared query, Prepared target) {
+        return calculateSimilarity(query, target, 0.0);
+    }
+
+    /**
+     * minSimilarity 이상인 경우에만 정확한 유사도가 필요할 때 사용합니다
+     * 레벤슈타인 거리가 minSimilarity에 도달할 수 없는 값을 넘으면 계산을 중단하고 minSimilarity 미만의 값을 반환합니다
+     */
+    public static double calculateSimilarity(Prepared query, Prepared target, double minSimilarity) {
+        if (query == null || target == null) return 0.0;
+
+        String q = query.text();
+        String t = target.text();
 
-        if (query.equals(target)) return 1.0;
-        if (target.contains(query)) return 0.8;
-        if (query.contains(target)) return 0.7;
+        if (q.equals(t)) return 1.0;
+        if (t.contains(q)) return 0.8;
+        if (q.contains(t)) return 0.7;
 
         // 한글이 포함된 경우 한글 자음/모음 분해 유사도 사용
-        if (containsKorean(query) || containsKorean(target)) {
-            return calculateKoreanSimilarity(query, target);
+        if (query.korean() || target.korean()) {
+            return calculateKoreanSimilarity(query, target, minSimilarity);
         }
 
         // 일반 레벤슈타인 거리 기반 유사도
-        int maxLen = Math.max(query.length(), target.length());
+        return levenshteinSimilarity(query.chars(), target.chars(), minSimilarity);
+    }
+
+    /**
+     * 유사도가 임계값 이상인지 확인합니다
+     */
+    public static boolean isSimilar(String query, String target) {
+        return isSimilar(calculateSimilarity(query, target));
+    }
+
+    /**
+     * 계산된 유사도가 임계값 이상인지 확인합니다
+     */
+    public static boolean isSimilar(double similarity) {
+        return similarity >= SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * 유사도 임계값
+     */
+    public static double threshold() {
+        return SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * 길이 차이만으로 임계값에 도달할 수 없는 대상을 거릅니다 (레벤슈타인 거리 >= 길이 차이)
+     * false이면 calculateSimilarity 결과가 반드시 임계값 미만이므로 계산을 생략해도 됩니다
+     */
+    public static boolean mayBeSimilar(Prepared query, Prepared target) {
+        if (query == null || target == null) return false;
+
+        String q = query.text();
+        String t = target.text();
+        double upperBound;
+
+        if (query.korean() || target.korean()) {
+            // 글자 수가 같으면 구성 요소 유사도가 최대 1.0까지 가능
+            if (q.length() == t.length()) return true;
+
+            int maxLen = Math.max(query.decomposed().length, target.decomposed().length);
+            if (maxLen == 0) return true;
+            int minDistance = Math.abs(query.decomposed().length - target.decomposed().length);
+            upperBound = (1.0 - (double) minDistance / maxLen) * 0.8;
+        } else {
+            int maxLen = Math.max(q.length(), t.length());
+            if (maxLen == 0) return true;
+            int minDistance = Math.abs(q.length() - t.length());
+            upperBound = 1.0 - (double) minDistance / maxLen;
+        }
+
+        return isSimilar(upperBound) || t.contains(q) || q.contains(t);
+    }
+
+    /**
+     * 유사도 계산용으로 문자열을 정규화/분해합니다
+     */
+    public static Prepared prepare(String text) {
+        if (text == null) return null;
+
+        String normalized = text.toLowerCase().trim();
+        char[] chars = normalized.toCharArray();
+        boolean korean = containsKorean(chars);
+        return new Prepared(normalized, chars, korean ? decompose(chars) : chars, korean);
+    }
+
+    /**
+     * 소문자/trim 처리된 문자열, 그 문자 배열, 자음/모음 분해 결과 (배열은 수정하지 않음)
+     */
+    public record Prepared(String text, char[] chars, char[] decomposed, boolean korean) {
+    }
+
+    /**
+     * 레벤슈타인 거리 기반 유사도 (1 - 거리 / 긴 쪽 길이)
+     * minSimilarity에 도달할 수 없으면 0.0
+     */
+    private static double levenshteinSimilarity(char[] a, char[] b, double minSimilarity) {
+        int maxLen = Math.max(a.length, b.length);
         if (maxLen == 0) return 1.0;
 
-        int distance = levenshteinDistance(query, target);
+        int maxDistance = maxDistanceFor(maxLen, minSimilarity);
+        int distance = levenshteinDistance(a, b, maxDistance);
+        if (distance > maxDistance) return 0.0;
+
         return 1.0 - (double) distance / maxLen;
     }
 
     /**
-     * 유사도가 임계값 이상인지 확인합니다
+     * 유사도 하한에 대응하는 최대 허용 거리 (부동소수점 오차를 고려해 1만큼 여유를 둠)
      */
-    public static boolean isSimilar(String query, String target) {
-        return calculateSimilarity(query, target) >= SIMILARITY_THRESHOLD;
+    private static int maxDistanceFor(int maxLen, double minSimilarity) {
+        if (minSimilarity <= 0.0) return maxLen;
+
+        double allowed = Math.floor(maxLen * (1.0 - minSimilarity)) + 1;
+        return (int) Math.max(0, Math.min(maxLen, allowed));
     }
 
+    // 두 행(이전/현재)만 쓰는 레벤슈타인 계산용 스레드별 버퍼
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][64]);
+
     /**
      * 레벤슈타인 거리를 계산합니다
+     * 대각선 기준 maxDistance 폭의 띠(Ukkonen band)만 계산하며, 행 최솟값이 maxDistance를 넘으면 바로 중단합니다
+     * @return 거리가 maxDistance 이하이면 정확한 거리, 아니면 maxDistance + 1
      */
-    private static int levenshteinDistance(String a, String b) {
-        int[][] dp = new int[a.length() + 1][b.length() + 1];
+    static int levenshteinDistance(char[] a, char[] b, int maxDistance) {
+        // 짧은 쪽을 열로 사용하여 버퍼 크기를 줄임
+        if (b.length > a.length) {
+            char[] swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int n = a.length;
+        int m = b.length;
+        maxDistance = Math.min(maxDistance, n);
+        int outOfBand = maxDistance + 1;
+
+        if (n - m > maxDistance) return outOfBand;
+        if (m == 0) return n;
+
+        int[][] rows = ROWS.get();
+        if (rows[0].length < m + 2) {
+            rows = new int[2][Math.max(m + 2, rows[0].length * 2)];
+            ROWS.set(rows);
+        }
+        int[] prev = rows[0];
+        int[] curr = rows[1];
+
+        for (int j = 0; j <= m; j++) prev[j] = j;
+        prev[m + 1] = outOfBand;
 
-        for (int i = 0; i <= a.length(); i++) dp[i][0] = i;
-        for (int j = 0; j <= b.length(); j++) dp[0][j] = j;
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
 
-        for (int i = 1; i <= a.length(); i++) {
-            for (int j = 1; j <= b.length(); j++) {
-                if (a.charAt(i - 1) == b.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
+            curr[from - 1] = from == 1 ? i : outOfBand;
+            int rowMin = curr[from - 1];
+            char ca = a[i - 1];
+
+            for (int j = from; j <= to; j++) {
+                int value;
+                if (ca == b[j - 1]) {
+                    value = prev[j - 1];
                 } else {
-                    dp[i][j] = Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]) + 1;
+                    value = Math.min(Math.min(prev[j], curr[j - 1]), prev[j - 1]) + 1;
                 }
+                curr[j] = value;
+                if (value < rowMin) rowMin = value;
             }
+            // 다음 행에서 띠 오른쪽 끝의 윗칸으로 읽히는 자리
+            if (to < m) curr[to + 1] = outOfBand;
+
+            if (rowMin > maxDistance) return outOfBand;
+
+            int[] swap = prev;
+            prev = curr;
+            curr = swap;
         }
 
-        return dp[a.length()][b.length()];
+        return Math.min(prev[m], outOfBand);
     }
 
     /**
      * 한글이 포함되어 있는지 확인합니다
      */
-    private static boolean containsKorean(String text) {
-        return text.chars().anyMatch(c -> c >= 0xAC00 && c <= 0xD7AF);
+    private static boolean containsKorean(char[] text) {
+        for (char c : text) {
+            if (c >= 0xAC00 && c <= 0xD7AF) return true;
+        }
+        return false;
     }
 
     /**
      * 한글 문자열의 유사도를 자음/모음 분해를 통해 계산합니다
      */
-    private static double calculateKoreanSimilarity(String query, String target) {
-        String queryDecomposed = decomposeKorean(query);
-        String targetDecomposed = decomposeKorean(target);
+    private static double calculateKoreanSimilarity(Prepared query, Prepared target, double minSimilarity) {
+        char[] queryDecomposed = query.decomposed();
+        char[] targetDecomposed = target.decomposed();
 
         // 분해된 문자열이 같으면 높은 유사도
-        if (queryDecomposed.equals(targetDecomposed)) return 0.95;
+        if (Arrays.equals(queryDecomposed, targetDecomposed)) return 0.95;
 
-        // 분해된 문자열로 레벤슈타인 거리 계산
-        int maxLen = Math.max(queryDecomposed.length(), targetDecomposed.length());
+        // 분해된 문자열로 레벤슈타인 거리 계산 (가중치 0.8을 곱해도 하한에 도달할 수 있는 거리까지만)
+        int maxLen = Math.max(queryDecomposed.length, targetDecomposed.length);
         if (maxLen == 0) return 1.0;
 
-        int distance = levenshteinDistance(queryDecomposed, targetDecomposed);
-        double similarity = 1.0 - (double) distance / maxLen;
+        double similarity = levenshteinSimilarity(queryDecomposed, targetDecomposed, minSimilarity / 0.8);
 
         // 한글 분해 유사도에 가중치 적용 (자음이 더 중요)
-        return Math.max(similarity * 0.8, calculateComponentSimilarity(query, target));
+        return Math.max(similarity * 0.8, calculateComponentSimilarity(query.text(), target.text()));
     }
 
     /**
      * 한글을 자음/모음으로 분해합니다
      */
-    private static String decomposeKorean(String text) {
-        StringBuilder result = new StringBuilder();
+    public static String decomposeKorean(String text) {
+        return new String(decompose(text.toCharArray()));
+    }
+
+    private static char[] decompose(char[] text) {
+        char[] result = new char[text.length * 3];
+        int length = 0;
 
-        for (char c : text.toCharArray()) {
+        for (char c : text) {
             if (c >= 0xAC00 && c <= 0xD7AF) {
                 // 한글 완성형 분해
                 int code = c - 0xAC00;
@@ -108,17 +261,17 @@ public class SimilarityUtil {
                 int jung = (code % (21 * 28)) / 28; // 중성
                 int jong = code % 28;              // 종성
 
-                result.append((char)(0x1100 + cho));  // 초성 추가
-                result.append((char)(0x1161 + jung)); // 중성 추가
+                result[length++] = (char)(0x1100 + cho);  // 초성 추가
+                result[length++] = (char)(0x1161 + jung); // 중성 추가
                 if (jong > 0) {
-                    result.append((char)(0x11A7 + jong)); // 종성 추가 (있는 경우만)
+                    result[length++] = (char)(0x11A7 + jong); // 종성 추가 (있는 경우만)
                 }
             } else {
-                result.append(c); // 한글이 아닌 문자는 그대로
+                result[length++] = c; // 한글이 아닌 문자는 그대로
             }
         }
 
-        return result.toString();
+        return length == result.length ? result : Arrays.copyOf(result, length);
     }
 
     /**
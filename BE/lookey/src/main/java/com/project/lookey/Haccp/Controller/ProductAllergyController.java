@@ -1,28 +1,63 @@
 package com.project.lookey.Haccp.Controller;
 
+import com.project.lookey.Haccp.Service.HaccpSyncService;
 import com.project.lookey.Haccp.Service.ProductAllergyService;
+import com.project.lookey.common.dto.ApiResponse;
+import com.project.lookey.common.job.JobResponse;
+import com.project.lookey.common.job.JobService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/product-allergy")
 @RequiredArgsConstructor
 public class ProductAllergyController {
 
+    // 같은 product_allergy를 갱신하므로 단일 페이지 갱신과 전체 동기화가 하나의 lease를 공유
+    private static final String LOCK_KEY = "haccp:product-allergy";
+
     private final ProductAllergyService productAllergyService;
+    private final HaccpSyncService haccpSyncService;
+    private final JobService jobService;
 
+    /**
+     * HACCP 한 페이지 갱신 작업 등록 (진행 상황은 /api/v1/jobs/{jobId}로 조회)
+     */
     @PostMapping("/update")
-    public ResponseEntity<String> updateProductAllergies(
+    public ResponseEntity<ApiResponse<JobResponse>> updateProductAllergies(
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "100") int numOfRows
     ) {
-        try {
-            productAllergyService.updateProductAllergies(pageNo, numOfRows);
-            return ResponseEntity.ok("ProductAllergy 업데이트 완료");
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).body("업데이트 실패: " + e.getMessage());
+        validateNumOfRows(numOfRows);
+        JobResponse job = jobService.submit("haccp-update", LOCK_KEY, context -> {
+            productAllergyService.updateProductAllergies(pageNo, numOfRows, context);
+            return null;
+        });
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>(202, "ProductAllergy 업데이트 작업 등록 완료", job));
+    }
+
+    /**
+     * HACCP 전체 페이지 동기화 작업 등록 (중단된 경우 완료되지 않은 페이지부터 이어서 진행)
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<JobResponse>> syncProductAllergies(
+            @RequestParam(defaultValue = "100") int numOfRows,
+            @RequestParam(defaultValue = "false") boolean restart
+    ) {
+        validateNumOfRows(numOfRows);
+        JobResponse job = jobService.submit("haccp-sync", LOCK_KEY,
+                context -> haccpSyncService.syncAll(numOfRows, restart, context));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>(202, "HACCP 동기화 작업 등록 완료", job));
+    }
+
+    private void validateNumOfRows(int numOfRows) {
+        if (numOfRows <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "numOfRows는 1 이상이어야 합니다.");
         }
     }
 }
@@ -0,0 +1,13 @@
+package com.project.lookey.Haccp.Dto;
+
+import java.util.List;
+
+/**
+ * HACCP API 한 페이지 조회 결과
+ */
+public record HaccpPage(
+        int pageNo,
+        int totalCount,
+        List<ApiItem> items
+) {
+}
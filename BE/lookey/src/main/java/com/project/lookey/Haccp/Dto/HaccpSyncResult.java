@@ -0,0 +1,18 @@
+package com.project.lookey.Haccp.Dto;
+
+import java.util.List;
+
+/**
+ * HACCP 전체 동기화 결과
+ */
+public record HaccpSyncResult(
+        int totalCount,
+        int totalPages,
+        int processedPages,
+        int skippedPages,
+        List<Integer> failedPages,
+        int processedItems,
+        int insertedLinks,
+        double itemsPerSecond
+) {
+}
@@ -0,0 +1,184 @@
+package com.project.lookey.Haccp.Service;
+
+import com.project.lookey.allergy.entity.AllergyList;
+import com.project.lookey.product.entity.Product;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * HACCP 품목 ↔ DB 상품/알러지 매칭 인덱스 (동기화 1회당 한 번 생성)
+ * - 상품명/알러지명은 생성 시 한 번만 정규화
+ * - "DB 상품명이 API 상품명을 포함": 1/2글자 n-gram 역색인으로 후보만 검증
+ * - "API 상품명이 DB 상품명을 포함": API 상품명의 부분 문자열을 정규화 이름 해시 맵에서 조회
+ * - 알러지 토큰별 매칭 결과는 캐시 ("우유", "대두" 등 반복이 많음)
+ */
+public class AllergenMatcher {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^가-힣a-zA-Z0-9]");
+    private static final int[] EMPTY = new int[0];
+
+    private final List<Product> products;
+    private final String[] normalizedNames;
+    private final Map<String, int[]> indicesByName;
+    private final Map<Integer, int[]> unigramPostings;
+    private final Map<Integer, int[]> bigramPostings;
+    private final int maxNameLength;
+
+    private final List<AllergyList> allergies;
+    private final String[] normalizedAllergyNames;
+    private final Map<String, List<AllergyList>> allergiesByToken = new HashMap<>();
+
+    private AllergenMatcher(List<Product> products, List<AllergyList> allergies) {
+        this.products = products;
+        this.normalizedNames = new String[products.size()];
+
+        Map<String, List<Integer>> names = new HashMap<>();
+        Map<Integer, List<Integer>> unigrams = new HashMap<>();
+        Map<Integer, List<Integer>> bigrams = new HashMap<>();
+        int maxLength = 0;
+
+        for (int i = 0; i < products.size(); i++) {
+            String name = normalize(products.get(i).getName());
+            normalizedNames[i] = name;
+            names.computeIfAbsent(name, key -> new ArrayList<>()).add(i);
+            maxLength = Math.max(maxLength, name.length());
+
+            for (int c = 0; c < name.length(); c++) {
+                addPosting(unigrams, (int) name.charAt(c), i);
+                if (c + 1 < name.length()) {
+                    addPosting(bigrams, bigramKey(name, c), i);
+                }
+            }
+        }
+
+        this.indicesByName = toArrays(names);
+        this.unigramPostings = toArrays(unigrams);
+        this.bigramPostings = toArrays(bigrams);
+        this.maxNameLength = maxLength;
+
+        this.allergies = allergies;
+        this.normalizedAllergyNames = new String[allergies.size()];
+        for (int i = 0; i < allergies.size(); i++) {
+            normalizedAllergyNames[i] = normalize(allergies.get(i).getName());
+        }
+    }
+
+    public static AllergenMatcher of(List<Product> products, List<AllergyList> allergies) {
+        return new AllergenMatcher(products, allergies);
+    }
+
+    /**
+     * 정규화된 API 상품명과 양방향 포함 관계인 DB 상품 (DB 조회 순서 유지)
+     * @param apiName normalize()를 거친 비어 있지 않은 상품명
+     */
+    public List<Product> findProducts(String apiName) {
+        BitSet matched = new BitSet(products.size());
+
+        // DB 상품명이 API 상품명을 포함
+        for (int index : containingCandidates(apiName)) {
+            if (normalizedNames[index].contains(apiName)) {
+                matched.set(index);
+            }
+        }
+
+        // API 상품명이 DB 상품명을 포함 (빈 문자열 이름은 모든 상품명에 포함됨)
+        for (int start = 0; start <= apiName.length(); start++) {
+            int maxEnd = Math.min(apiName.length(), start + maxNameLength);
+            for (int end = start; end <= maxEnd; end++) {
+                int[] indices = indicesByName.get(apiName.substring(start, end));
+                if (indices != null) {
+                    for (int index : indices) {
+                        matched.set(index);
+                    }
+                }
+            }
+        }
+
+        List<Product> result = new ArrayList<>(matched.cardinality());
+        for (int index = matched.nextSetBit(0); index >= 0; index = matched.nextSetBit(index + 1)) {
+            result.add(products.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * API 알러지 문자열(쉼표 구분)에 포함된 DB 알러지 목록 (토큰 순서, 토큰 내에서는 DB 조회 순서)
+     */
+    public List<List<AllergyList>> findAllergies(String allergyStr) {
+        String[] tokens = allergyStr.split(",");
+        List<List<AllergyList>> result = new ArrayList<>(tokens.length);
+        for (String token : tokens) {
+            result.add(allergiesByToken.computeIfAbsent(normalize(token), this::matchAllergies));
+        }
+        return result;
+    }
+
+    private List<AllergyList> matchAllergies(String token) {
+        // 기존 동작 유지: 빈 토큰("우유, " 등)은 모든 알러지명에 포함되는 것으로 처리됨
+        List<AllergyList> matched = new ArrayList<>();
+        for (int i = 0; i < allergies.size(); i++) {
+            String name = normalizedAllergyNames[i];
+            if (name.contains(token) || token.contains(name)) {
+                matched.add(allergies.get(i));
+            }
+        }
+        return List.copyOf(matched);
+    }
+
+    /**
+     * 검색어의 n-gram 중 게시 목록이 가장 짧은 것을 후보로 사용
+     */
+    private int[] containingCandidates(String query) {
+        if (query.length() == 1) {
+            return unigramPostings.getOrDefault((int) query.charAt(0), EMPTY);
+        }
+
+        int[] rarest = null;
+        for (int c = 0; c + 1 < query.length(); c++) {
+            int[] postings = bigramPostings.get(bigramKey(query, c));
+            if (postings == null) {
+                return EMPTY;
+            }
+            if (rarest == null || postings.length < rarest.length) {
+                rarest = postings;
+            }
+        }
+        return rarest == null ? EMPTY : rarest;
+    }
+
+    /**
+     * 문자열 정규화
+     * - 공백 제거
+     * - 특수문자 제거
+     * - 소문자 변환
+     */
+    public static String normalize(String input) {
+        if (input == null) return "";
+        String withoutSpaces = WHITESPACE.matcher(input).replaceAll("");
+        return NON_WORD.matcher(withoutSpaces).replaceAll("").toLowerCase();
+    }
+
+    private static int bigramKey(String text, int offset) {
+        return (text.charAt(offset) << 16) | text.charAt(offset + 1);
+    }
+
+    private static <K> void addPosting(Map<K, List<Integer>> postings, K key, int index) {
+        List<Integer> list = postings.computeIfAbsent(key, k -> new ArrayList<>());
+        // 같은 상품 안에서 반복되는 n-gram은 한 번만 기록
+        if (list.isEmpty() || list.get(list.size() - 1) != index) {
+            list.add(index);
+        }
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> source) {
+        Map<K, int[]> result = new HashMap<>(source.size() * 2);
+        source.forEach((key, list) -> result.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+}
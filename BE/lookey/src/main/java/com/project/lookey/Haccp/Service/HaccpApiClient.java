@@ -0,0 +1,184 @@
+package com.project.lookey.Haccp.Service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.lookey.Haccp.Config.ApiConfig;
+import com.project.lookey.Haccp.Dto.ApiItem;
+import com.project.lookey.Haccp.Dto.HaccpPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HACCP 인증 제품 API 클라이언트
+ * - 모든 요청이 하나의 HttpClient(keep-alive 연결 재사용)를 공유
+ * - 응답 본문을 문자열로 모으지 않고 JsonParser로 스트리밍 파싱하여 item만 ApiItem으로 변환
+ * - openapi.haccp.url을 로컬 스텁 서버(http)로 바꿔 테스트 가능
+ */
+@Component
+public class HaccpApiClient {
+
+    // 정상 응답 코드 (공공데이터포털 공통 코드 "00"도 허용)
+    private static final Set<String> OK_RESULT_CODES = Set.of("OK", "00");
+
+    private final ApiConfig apiConfig;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public HaccpApiClient(ApiConfig apiConfig,
+                          ObjectMapper objectMapper,
+                          @Value("${haccp.api.connect-timeout-ms:5000}") long connectTimeoutMillis,
+                          @Value("${haccp.api.request-timeout-ms:10000}") long requestTimeoutMillis) {
+        this.apiConfig = apiConfig;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 페이지 조회
+     * @param pageNo 페이지 번호 (1부터)
+     * @param numOfRows 페이지 크기
+     */
+    public HaccpPage fetchPage(int pageNo, int numOfRows) throws IOException, InterruptedException {
+        String serviceKey = URLEncoder.encode(apiConfig.getApiKey(), StandardCharsets.UTF_8);
+        URI uri = URI.create(apiConfig.getApiUrl()
+                + "?ServiceKey=" + serviceKey
+                + "&pageNo=" + pageNo
+                + "&numOfRows=" + numOfRows
+                + "&returnType=json");
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("API 호출 실패: HTTP " + response.statusCode());
+            }
+            return parsePage(pageNo, body);
+        }
+    }
+
+    /**
+     * {"header": {...}, "body": {"totalCount": n, "items": [{"item": {...}}, ...]}} 형식 파싱
+     * HTTP 200이어도 resultCode가 정상이 아니거나 body가 없으면(호출 제한/오류 응답) 예외
+     * (빈 페이지로 처리하면 완료로 기록되어 다시 조회하지 않으므로)
+     */
+    HaccpPage parsePage(int pageNo, InputStream body) throws IOException {
+        int totalCount = 0;
+        List<ApiItem> items = new ArrayList<>();
+        Header header = null;
+        boolean hasBody = false;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("HACCP 응답 형식이 올바르지 않습니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("header".equals(field) && value == JsonToken.START_OBJECT) {
+                    header = readHeader(parser);
+                } else if ("body".equals(field) && value == JsonToken.START_OBJECT) {
+                    totalCount = readBody(parser, items);
+                    hasBody = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (header == null) {
+            throw new IOException("HACCP 응답에 header가 없습니다 - pageNo: " + pageNo);
+        }
+        if (!OK_RESULT_CODES.contains(header.resultCode())) {
+            throw new IOException("HACCP API 오류 응답 - pageNo: " + pageNo
+                    + ", resultCode: " + header.resultCode() + ", message: " + header.resultMessage());
+        }
+        if (!hasBody) {
+            throw new IOException("HACCP 응답에 body가 없습니다 - pageNo: " + pageNo);
+        }
+        return new HaccpPage(pageNo, totalCount, items);
+    }
+
+    private Header readHeader(JsonParser parser) throws IOException {
+        String resultCode = null;
+        String resultMessage = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("resultCode".equals(field)) {
+                resultCode = parser.getValueAsString();
+            } else if ("resultMessage".equals(field) || "resultMsg".equals(field)) {
+                resultMessage = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Header(resultCode, resultMessage);
+    }
+
+    private int readBody(JsonParser parser, List<ApiItem> items) throws IOException {
+        int totalCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("totalCount".equals(field)) {
+                // 숫자 또는 문자열("1234")로 올 수 있음
+                totalCount = parser.getValueAsInt(0);
+            } else if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                JsonToken element;
+                while ((element = parser.nextToken()) != null && element != JsonToken.END_ARRAY) {
+                    if (element == JsonToken.START_OBJECT) {
+                        readItemWrapper(parser, items);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                // 결과가 없으면 items가 빈 문자열로 오는 경우도 있음
+                parser.skipChildren();
+            }
+        }
+        return totalCount;
+    }
+
+    private void readItemWrapper(JsonParser parser, List<ApiItem> items) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("item".equals(field) && value == JsonToken.START_OBJECT) {
+                items.add(parser.readValueAs(ApiItem.class));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private record Header(String resultCode, String resultMessage) {
+    }
+}
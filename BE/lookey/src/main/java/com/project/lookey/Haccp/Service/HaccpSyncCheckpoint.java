@@ -0,0 +1,49 @@
+package com.project.lookey.Haccp.Service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HACCP 전체 동기화 진행 상황 (Redis)
+ * - 완료된 페이지 번호를 Set으로 저장하여 중단된 동기화를 이어서 진행
+ * - 페이지 번호는 페이지 크기에 따라 달라지므로 numOfRows별로 분리
+ */
+@Component
+@RequiredArgsConstructor
+public class HaccpSyncCheckpoint {
+
+    private static final String KEY_PREFIX = "haccp:sync:";
+    private static final long TTL_DAYS = 7;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Set<Integer> completedPages(int numOfRows) {
+        Set<String> members = redisTemplate.opsForSet().members(key(numOfRows));
+        Set<Integer> pages = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                pages.add(Integer.valueOf(member));
+            }
+        }
+        return pages;
+    }
+
+    public void markCompleted(int numOfRows, int pageNo) {
+        String key = key(numOfRows);
+        redisTemplate.opsForSet().add(key, String.valueOf(pageNo));
+        redisTemplate.expire(key, TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    public void clear(int numOfRows) {
+        redisTemplate.delete(key(numOfRows));
+    }
+
+    private String key(int numOfRows) {
+        return KEY_PREFIX + numOfRows + ":done";
+    }
+}
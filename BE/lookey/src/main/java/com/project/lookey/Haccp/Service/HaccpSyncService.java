@@ -0,0 +1,174 @@
+package com.project.lookey.Haccp.Service;
+
+import com.project.lookey.Haccp.Dto.HaccpPage;
+import com.project.lookey.Haccp.Dto.HaccpSyncResult;
+import com.project.lookey.common.job.JobContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HACCP 전체 카탈로그 동기화
+ * - 첫 페이지의 totalCount로 전체 페이지 수를 구한 뒤 나머지 페이지를 제한된 스레드 풀에서 동시에 조회
+ *   (저장을 기다리는 페이지가 메모리에 쌓이지 않도록 진행 중인 조회는 concurrency * 2개까지)
+ * - 매칭/저장은 호출 스레드 한 곳에서 페이지가 도착하는 순서대로 처리 (매칭 인덱스는 한 번만 생성)
+ * - 페이지 저장이 끝나면 체크포인트에 기록하여 중단되면 남은 페이지부터 이어서 진행
+ * - 작업 서비스(JobService)에서 실행되며, 동시 실행 방지는 작업 lease가 담당
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HaccpSyncService {
+
+    private final HaccpApiClient haccpApiClient;
+    private final HaccpSyncCheckpoint checkpoint;
+    private final ProductAllergyService productAllergyService;
+
+    @Value("${haccp.sync.concurrency:4}")
+    private int concurrency;
+
+    /**
+     * 전체 페이지 동기화
+     * @param numOfRows 페이지 크기
+     * @param restart true이면 체크포인트를 지우고 처음부터 진행
+     * @param job 진행 상황(페이지 수 기준) 보고/취소 확인
+     */
+    public HaccpSyncResult syncAll(int numOfRows, boolean restart, JobContext job) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        if (restart) {
+            checkpoint.clear(numOfRows);
+        }
+        Set<Integer> completed = checkpoint.completedPages(numOfRows);
+
+        // 1. 첫 페이지로 전체 개수 확인
+        HaccpPage firstPage;
+        try {
+            firstPage = haccpApiClient.fetchPage(1, numOfRows);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "HACCP API 호출 실패: " + e.getMessage(), e);
+        }
+        int totalCount = firstPage.totalCount();
+        int totalPages = (totalCount + numOfRows - 1) / numOfRows;
+        job.setTotal(totalPages);
+
+        ProductAllergyService.MatchSession session = productAllergyService.newMatchSession();
+        int processedPages = 0;
+        int skippedPages = 0;
+
+        if (completed.contains(1)) {
+            skippedPages++;
+        } else {
+            process(session, firstPage, numOfRows);
+            processedPages++;
+        }
+        job.advance(1);
+
+        // 2. 나머지 페이지 중 완료되지 않은 것만 동시 조회
+        List<Integer> pending = new ArrayList<>();
+        for (int pageNo = 2; pageNo <= totalPages; pageNo++) {
+            if (completed.contains(pageNo)) {
+                skippedPages++;
+                job.advance(1);
+            } else {
+                pending.add(pageNo);
+            }
+        }
+        log.info("HACCP 동기화 시작 - totalCount: {}, 페이지: {}, 건너뜀: {}, 조회 대상: {}",
+                totalCount, totalPages, skippedPages, pending.size() + (completed.contains(1) ? 0 : 1));
+
+        List<Integer> failedPages = new ArrayList<>();
+        if (!pending.isEmpty()) {
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(Math.max(1, concurrency), pending.size()),
+                    namedThreadFactory("haccp-sync-"));
+            try {
+                CompletionService<HaccpPage> completionService = new ExecutorCompletionService<>(pool);
+                Map<Future<HaccpPage>, Integer> pageByFuture = new HashMap<>();
+                // 조회가 끝나고 저장을 기다리는 페이지가 쌓이지 않도록 동시에 진행 중인 조회 수를 제한
+                // (한 페이지를 꺼낼 때마다 다음 페이지 하나를 제출)
+                Iterator<Integer> nextPages = pending.iterator();
+                int window = Math.max(1, concurrency) * 2;
+                for (int i = 0; i < window && nextPages.hasNext(); i++) {
+                    submit(completionService, pageByFuture, nextPages.next(), numOfRows);
+                }
+
+                for (int i = 0; i < pending.size(); i++) {
+                    job.throwIfCancelled();
+                    Future<HaccpPage> future = completionService.take();
+                    // 꺼낸 페이지는 맵에서 제거 (처리가 끝난 페이지를 계속 참조하지 않도록)
+                    int pageNo = pageByFuture.remove(future);
+                    if (nextPages.hasNext()) {
+                        submit(completionService, pageByFuture, nextPages.next(), numOfRows);
+                    }
+                    job.advance(1);
+                    try {
+                        process(session, future.get(), numOfRows);
+                        processedPages++;
+                    } catch (ExecutionException e) {
+                        // 조회 실패한 페이지는 체크포인트에 남지 않으므로 다음 실행에서 다시 시도
+                        failedPages.add(pageNo);
+                        log.warn("HACCP 페이지 조회 실패 - pageNo: {}", pageNo, e.getCause());
+                    }
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        if (failedPages.isEmpty()) {
+            checkpoint.clear(numOfRows);
+        }
+        Collections.sort(failedPages);
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        double itemsPerSecond = elapsedSeconds > 0 ? session.processedItems() / elapsedSeconds : 0.0;
+        log.info("HACCP 동기화 완료 - 처리 페이지: {}, 실패: {}, 품목: {}, 신규 매핑: {}, 소요: {}s, 처리량: {} items/sec",
+                processedPages, failedPages.size(), session.processedItems(), session.insertedLinks(),
+                String.format("%.2f", elapsedSeconds), String.format("%.1f", itemsPerSecond));
+
+        return new HaccpSyncResult(totalCount, totalPages, processedPages, skippedPages, failedPages,
+                session.processedItems(), session.insertedLinks(), itemsPerSecond);
+    }
+
+    private void submit(CompletionService<HaccpPage> completionService, Map<Future<HaccpPage>, Integer> pageByFuture,
+                        int pageNo, int numOfRows) {
+        pageByFuture.put(completionService.submit(() -> haccpApiClient.fetchPage(pageNo, numOfRows)), pageNo);
+    }
+
+    /**
+     * 페이지 매칭/저장 후 체크포인트 기록 (저장이 끝난 페이지만 완료로 표시)
+     */
+    private void process(ProductAllergyService.MatchSession session, HaccpPage page, int numOfRows) {
+        session.apply(page.items());
+        session.flush();
+        checkpoint.markCompleted(numOfRows, page.pageNo());
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,132 +1,126 @@
 package com.project.lookey.Haccp.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.project.lookey.Haccp.Config.ApiConfig;
 import com.project.lookey.Haccp.Dto.ApiItem;
-import com.project.lookey.Haccp.Dto.ApiResponse;
+import com.project.lookey.Haccp.Dto.HaccpPage;
 import com.project.lookey.allergy.entity.AllergyList;
 import com.project.lookey.allergy.repository.AllergyListRepository;
+import com.project.lookey.allergy.service.AllergenMaskService;
+import com.project.lookey.common.job.JobContext;
 import com.project.lookey.product.entity.Product;
-import com.project.lookey.product.entity.ProductAllergy;
-import com.project.lookey.product.repository.ProductAllergyRepository;
+import com.project.lookey.product.repository.ProductAllergyBulkWriter;
 import com.project.lookey.product.repository.ProductRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import javax.net.ssl.HttpsURLConnection;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductAllergyService {
 
     private final ProductRepository productRepository;
     private final AllergyListRepository allergyListRepository;
-    private final ProductAllergyRepository productAllergyRepository;
-    private final ObjectMapper objectMapper;
-    private final ApiConfig apiConfig;
+    private final ProductAllergyBulkWriter productAllergyBulkWriter;
+    private final HaccpApiClient haccpApiClient;
+    private final AllergenMaskService allergenMaskService;
 
+    /**
+     * HACCP 한 페이지 매칭/저장 (JobService에서 실행, 진행 상황은 품목 수 기준)
+     */
     @Transactional
-    public void updateProductAllergies(int pageNo, int numOfRows) throws Exception {
-        // 1. URL 생성 및 ServiceKey 인코딩
-        String serviceKey = URLEncoder.encode(apiConfig.getApiKey(), StandardCharsets.UTF_8);
-        String urlStr = apiConfig.getApiUrl()
-                + "?ServiceKey=" + serviceKey
-                + "&pageNo=" + pageNo
-                + "&numOfRows=" + numOfRows
-                + "&returnType=json";
-
-        // 2. HttpURLConnection으로 GET 호출
-        URL url = new URL(urlStr);
-        HttpsURLConnection conn = (HttpsURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(5000);
-        conn.setReadTimeout(5000);
-
-        int responseCode = conn.getResponseCode();
-        if (responseCode != 200) {
-            throw new RuntimeException("API 호출 실패: HTTP " + responseCode);
-        }
-
-        // 3. 응답 읽기
-        StringBuilder responseBody = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                responseBody.append(line);
-            }
-        }
-
-        // 4. JSON -> DTO
-        ApiResponse apiResponse = objectMapper.readValue(responseBody.toString(), ApiResponse.class);
-        if (apiResponse.getBody() == null || apiResponse.getBody().getItems() == null) return;
-
-        // 5. 상품 & 알러지 매칭
-        List<Product> products = productRepository.findAll();
-        List<AllergyList> allergies = allergyListRepository.findAll();
-
-
-        for (ApiResponse.Body.ItemWrapper wrapper : apiResponse.getBody().getItems()) {
-            ApiItem apiItem = wrapper.getItem();
-            if (apiItem == null) continue;
+    public void updateProductAllergies(int pageNo, int numOfRows, JobContext job) throws Exception {
+        // 1. API 호출 (스트리밍 파싱)
+        HaccpPage page = haccpApiClient.fetchPage(pageNo, numOfRows);
+        job.setTotal(page.items().size());
+        if (page.items().isEmpty()) return;
+
+        // 2. 상품 & 알러지 매칭 (정규화/인덱스는 한 번만 생성)
+        long startedAt = System.nanoTime();
+        MatchSession session = newMatchSession();
+        session.apply(page.items());
+        job.advance(page.items().size());
+        session.flush();
+        job.setMessage("신규 매핑 " + session.insertedLinks() + "건 저장");
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("HACCP 알러지 매칭 완료 - pageNo: {}, 품목: {}, 신규 매핑: {}, 소요: {}s, 처리량: {} items/sec",
+                pageNo, session.processedItems(), session.insertedLinks(), String.format("%.2f", elapsedSeconds),
+                String.format("%.1f", elapsedSeconds > 0 ? session.processedItems() / elapsedSeconds : 0.0));
+    }
 
+    /**
+     * 상품/알러지 인덱스와 기존 매핑을 한 번 읽어 둔 매칭 세션 생성 (여러 페이지에 재사용)
+     */
+    public MatchSession newMatchSession() {
+        AllergenMatcher matcher = AllergenMatcher.of(productRepository.findAll(), allergyListRepository.findAll());
+        // 저장된 매핑은 알레르기 확인용 상품 마스크에도 바로 반영
+        AllergenMaskService.ProductMaskUpdate maskUpdate = allergenMaskService.newProductUpdate();
+        return new MatchSession(matcher, productAllergyBulkWriter.newBatch(maskUpdate), maskUpdate);
+    }
 
-            String productNameFromApi = normalize(apiItem.getPrdlstNm());
-            String allergyStr = apiItem.getAllergy();
+    /**
+     * HACCP 품목을 DB 상품/알러지와 매칭하여 새 매핑을 배치 저장 (단일 스레드에서 사용)
+     */
+    public static class MatchSession {
+
+        private final AllergenMatcher matcher;
+        private final ProductAllergyBulkWriter.LinkBatch links;
+        private final AllergenMaskService.ProductMaskUpdate maskUpdate;
+        private int processedItems;
+
+        private MatchSession(AllergenMatcher matcher, ProductAllergyBulkWriter.LinkBatch links,
+                             AllergenMaskService.ProductMaskUpdate maskUpdate) {
+            this.matcher = matcher;
+            this.links = links;
+            this.maskUpdate = maskUpdate;
+        }
 
-            if (productNameFromApi.isBlank() || allergyStr == null
-                    || allergyStr.isBlank() || allergyStr.equals("없음")) continue;
+        public void apply(List<ApiItem> items) {
+            for (ApiItem apiItem : items) {
+                if (apiItem == null) continue;
+                processedItems++;
 
-            String[] apiAllergies = allergyStr.split(",");
+                String productNameFromApi = AllergenMatcher.normalize(apiItem.getPrdlstNm());
+                String allergyStr = apiItem.getAllergy();
 
-            // DB 상품 순회
-            for (Product product : products) {
-                String dbProductName = normalize(product.getName());
+                if (productNameFromApi.isBlank() || allergyStr == null
+                        || allergyStr.isBlank() || allergyStr.equals("없음")) continue;
 
                 // 상품명 유연 매칭
-                if (dbProductName.contains(productNameFromApi) || productNameFromApi.contains(dbProductName)) {
-
-                    // API 알러지 각각 확인
-                    for (String apiAllergy : apiAllergies) {
-                        String normalizedApiAllergy = normalize(apiAllergy);
+                List<Product> matchedProducts = matcher.findProducts(productNameFromApi);
+                if (matchedProducts.isEmpty()) continue;
 
-                        for (AllergyList allergy : allergies) {
-                            String dbAllergyName = normalize(allergy.getName());
+                // API 알러지 각각에 해당하는 DB 알러지
+                List<List<AllergyList>> matchedAllergies = matcher.findAllergies(allergyStr);
 
-                            if (dbAllergyName.contains(normalizedApiAllergy) || normalizedApiAllergy.contains(dbAllergyName)) {
-                                boolean exists = productAllergyRepository.existsByProductAndAllergy(product, allergy);
-
-                                if (!exists) {
-                                    ProductAllergy pa = new ProductAllergy();
-                                    pa.setProduct(product);
-                                    pa.setAllergy(allergy);
-                                    productAllergyRepository.save(pa);
-
-                                }
-                            }
+                for (Product product : matchedProducts) {
+                    for (List<AllergyList> tokenAllergies : matchedAllergies) {
+                        for (AllergyList allergy : tokenAllergies) {
+                            // 이미 있는 쌍은 건너뛰고 새 쌍만 모아서 배치 저장
+                            links.add(product.getId(), allergy.getId());
                         }
                     }
                 }
             }
         }
-    }
 
-    /**
-     * 문자열 정규화 메서드
-     * - 공백 제거
-     * - 특수문자 제거
-     * - 소문자 변환
-     */
-    private String normalize(String input) {
-        if (input == null) return "";
-        return input.replaceAll("\\s+", "")
-                .replaceAll("[^가-힣a-zA-Z0-9]", "")
-                .toLowerCase();
+        /**
+         * 남은 매핑 저장
+         */
+        public void flush() {
+            links.flush();
+            maskUpdate.publish();
+        }
+
+        public int processedItems() {
+            return processedItems;
+        }
+
+        public int insertedLinks() {
+            return links.insertedCount();
+        }
     }
 }
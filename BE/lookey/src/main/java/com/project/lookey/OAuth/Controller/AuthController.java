@@ -6,6 +6,7 @@ import com.project.lookey.OAuth.Repository.UserRepository;
 import com.project.lookey.OAuth.Service.Redis.JwtRedisService;
 import com.project.lookey.OAuth.Service.google.GoogleVerifierService;
 import com.project.lookey.OAuth.Service.jwt.JwtProvider;
+import com.project.lookey.OAuth.Service.jwt.UserPrincipalResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class AuthController {
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
     private final JwtRedisService jwtRedisService;
+    private final UserPrincipalResolver userPrincipalResolver;
 
     @PostMapping("/google")
     @Operation(summary = "Google 로그인", security = @SecurityRequirement(name = "bearerAuth"))
@@ -123,4 +125,26 @@ public class AuthController {
         return ResponseEntity.ok(Map.of("jwtToken", newAccessToken));
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<Map<String, Object>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader
+    ) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Invalid Header"));
+        }
+
+        Integer userId;
+        try {
+            userId = jwtProvider.getUserIdFromToken(authorizationHeader.substring(7));
+        } catch (Exception e) {
+            return ResponseEntity.status(401).body(Map.of("message", "Invalid Token"));
+        }
+
+        // Refresh Token 삭제 + 이미 발급된 Access Token 폐기 (모든 인스턴스의 인증 캐시 무효화)
+        jwtRedisService.deleteRefreshToken(userId.longValue());
+        userPrincipalResolver.revoke(userId, jwtProvider.getAccessTokenExpirationMs());
+
+        return ResponseEntity.ok(Map.of("message", "로그아웃 성공"));
+    }
 }
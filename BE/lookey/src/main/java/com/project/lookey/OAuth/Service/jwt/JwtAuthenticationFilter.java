@@ -1,7 +1,5 @@
 package com.project.lookey.OAuth.Service.jwt;
 
-import com.project.lookey.OAuth.Entity.User;
-import com.project.lookey.OAuth.Repository.UserRepository;
 import com.project.lookey.OAuth.Service.oauth.CustomOAuth2User;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -13,16 +11,31 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 인증이 필요 없는 고빈도 API (SecurityConfig의 permitAll) → 토큰 파싱 생략
+    private static final List<String> SKIP_PATHS = List.of("/api/v1/vision/**", "/api/v1/path/**");
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalResolver userPrincipalResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : SKIP_PATHS) {
+            if (PATH_MATCHER.match(pattern, path)) return true;
+        }
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -38,17 +51,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             try {
                 Claims claims = jwtProvider.parseClaims(token);
-                Integer userId = claims.get("userId", Integer.class);
-
-                User user = userRepository.findById(userId).orElse(null);
 
-                if (user != null) {
-                    CustomOAuth2User customUser = new CustomOAuth2User(
-                            user.getId(),
-                            claims,
-                            null
-                    );
+                // 서명된 claims + 로컬 캐시로 확인 (요청마다 DB 조회하지 않음)
+                CustomOAuth2User customUser = userPrincipalResolver.resolve(claims);
 
+                if (customUser != null) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(customUser, null, null);
 
@@ -1,27 +1,64 @@
 package com.project.lookey.OAuth.Service.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
+    private static final String VERIFIED_CACHE_NAME = "jwt_verified";
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey); // Base64 디코딩
-        return Keys.hmacShaKeyFor(keyBytes); // HS512용 Key 생성
+    // 검증이 끝난 토큰 캐시 (같은 기기가 초당 여러 번 보내는 토큰의 서명 검증/파싱 생략)
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    @Value("${jwt.verified-cache.max-ttl-ms:300000}")
+    private long verifiedCacheMaxTtlMillis;
+
+    // 비밀키/파서는 한 번만 생성 (JwtParser는 불변이라 스레드 간 공유 가능)
+    // HS256(Access)과 HS512(Refresh) 모두 같은 비밀키 바이트로 서명
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 토큰 문자열 → claims, 토큰의 exp가 지나면 만료
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void initialize() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_CACHE_NAME);
     }
 
     // Access Token: 30분
@@ -33,6 +70,10 @@ public class JwtProvider {
     // JWT 유효기간: 7일
     // private final long EXPIRATION_TIME = 1000L * 60 * 60 * 24 * 7;
 
+    public long getAccessTokenExpirationMs() {
+        return ACCESS_TOKEN_EXPIRATION_MS;
+    }
+
     public String createToken(Number userId, String email) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_MS);
@@ -42,32 +83,36 @@ public class JwtProvider {
                 .claim("userId", userId)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
         return token;
     }
 
+    /**
+     * 서명/만료 검증 후 claims 반환 (검증에 성공한 토큰만 캐시, 실패하면 예외)
+     * - 키가 토큰 문자열 전체이므로 한 글자라도 다른 토큰은 다시 검증
+     */
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        // exp가 지난 항목은 캐시에서 조회되지 않음 (TokenExpiry)
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) return cached;
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 
     public String createRefreshToken(Integer userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION_MS);
 
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-
         return Jwts.builder()
                 .setSubject(userId.toString())
                 .claim("userId", userId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -76,5 +121,30 @@ public class JwtProvider {
         Claims claims = parseClaims(token);
         return claims.get("userId", Integer.class);
     }
-}
 
+    /**
+     * 토큰의 exp까지만 캐시 (exp가 없으면 최대 TTL)
+     */
+    private class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(verifiedCacheMaxTtlMillis);
+            Date expiration = claims.getExpiration();
+            if (expiration == null) return maxTtlNanos;
+
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
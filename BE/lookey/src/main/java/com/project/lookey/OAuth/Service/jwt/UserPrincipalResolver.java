@@ -0,0 +1,119 @@
+package com.project.lookey.OAuth.Service.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.lookey.OAuth.Repository.UserRepository;
+import com.project.lookey.OAuth.Service.oauth.CustomOAuth2User;
+import com.project.lookey.common.cache.CacheInvalidationBus;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 검증된 JWT claims로 인증 주체 생성 (요청마다 user 테이블을 조회하지 않음)
+ * - 사용자 존재 여부/로그아웃 시각만 로컬 캐시에 보관, 캐시에 없을 때만 DB/Redis 조회
+ * - 로그아웃(토큰 폐기) 시 그 이전에 발급된 Access Token은 거부
+ * - 다른 인스턴스의 캐시는 Redis pub/sub으로 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalResolver {
+
+    private static final String CACHE_NAME = "user_principal";
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+    private static final UserState MISSING = new UserState(false, 0L);
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${auth.user-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    private Cache<Integer, UserState> users;
+
+    /**
+     * @param exists user 테이블에 있는지
+     * @param revokedAt 이 시각(epoch 초) 이전에 발급된 토큰은 무효 (0이면 없음)
+     *                  JWT iat가 초 단위이므로 같은 단위로 비교 (밀리초로 비교하면 폐기 직후 같은 초에 발급된 토큰도 거부됨)
+     */
+    private record UserState(boolean exists, long revokedAt) {
+    }
+
+    @PostConstruct
+    void initialize() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+
+        // 다른 인스턴스에서 로그아웃/탈퇴 처리된 사용자
+        cacheInvalidationBus.subscribe(CACHE_NAME, key -> users.invalidate(Integer.valueOf(key)));
+    }
+
+    /**
+     * 서명/만료 검증이 끝난 claims로 인증 주체 생성
+     * @return 사용자가 없거나 토큰이 폐기되었으면 null
+     */
+    public CustomOAuth2User resolve(Claims claims) {
+        Integer userId = claims.get("userId", Integer.class);
+        if (userId == null) return null;
+
+        UserState state = users.get(userId, this::load);
+        if (!state.exists()) return null;
+
+        Date issuedAt = claims.getIssuedAt();
+        if (state.revokedAt() > 0 && (issuedAt == null || issuedAt.getTime() / 1000 < state.revokedAt())) {
+            log.debug("폐기된 토큰 - userId: {}", userId);
+            return null;
+        }
+        return new CustomOAuth2User(userId, claims, null);
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 Access Token 폐기 (로그아웃/탈퇴 시 호출)
+     * @param tokenLifetimeMillis Access Token 유효기간 (이후에는 만료로 거부되므로 기록 삭제)
+     */
+    public void revoke(Integer userId, long tokenLifetimeMillis) {
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + userId,
+                String.valueOf(System.currentTimeMillis() / 1000), Duration.ofMillis(tokenLifetimeMillis));
+        evict(userId);
+    }
+
+    /**
+     * 사용자 정보가 바뀌었을 때 로컬/다른 인스턴스 캐시 무효화
+     */
+    public void evict(Integer userId) {
+        users.invalidate(userId);
+        cacheInvalidationBus.publish(CACHE_NAME, String.valueOf(userId));
+    }
+
+    private UserState load(Integer userId) {
+        if (!userRepository.existsById(userId)) return MISSING;
+
+        try {
+            String revokedAt = redisTemplate.opsForValue().get(REVOKED_KEY_PREFIX + userId);
+            return new UserState(true, revokedAt != null ? Long.parseLong(revokedAt) : 0L);
+        } catch (Exception e) {
+            // Redis 장애로 인증 전체가 막히지 않도록 폐기 기록 없음으로 처리
+            log.warn("토큰 폐기 기록 조회 실패 - userId: {}", userId, e);
+            return new UserState(true, 0L);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.project.lookey.allergy.repository;
 
 import com.project.lookey.allergy.entity.Allergy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,8 @@ public interface AllergyRepository extends JpaRepository<Allergy, Long> {
     boolean existsByUser_IdAndAllergyList_Id(Integer userId, Long allergyListId);
 
     int deleteByUser_IdAndAllergyList_Id(Integer userId, Long allergyListId);
+
+    // 사용자 알레르기 마스크용 (allergy_list.id만 조회)
+    @Query("select a.allergyList.id from Allergy a where a.user.id = :userId")
+    List<Long> findAllergyListIdsByUserId(@Param("userId") Integer userId);
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.project.lookey.allergy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.lookey.allergy.repository.AllergyRepository;
+import com.project.lookey.common.cache.CacheInvalidationBus;
+import com.project.lookey.product.repository.ProductAllergyBulkWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품/사용자 알레르기 비트마스크 (비트 위치 = allergy_list.id)
+ * - 상품 마스크: 시작 시 product_allergy 전체를 읽고, 이후에는 HACCP 매칭이 저장한 쌍만 커밋 후 반영
+ *   (다른 인스턴스에는 저장된 쌍을 그대로 전달하므로 DB를 다시 읽지 않음)
+ * - 전달이 유실되거나 다른 경로로 바뀐 매핑은 refresh-interval-ms마다 전체를 다시 읽어 맞춤
+ *   (별도 스레드에서 한 번에 하나만 실행, 그동안 조회는 기존 마스크 사용)
+ * - 사용자 마스크: 로컬 캐시, 알레르기 추가/삭제 커밋 후 무효화
+ * - 알레르기 확인은 두 마스크의 AND 한 번 (캐시가 채워진 뒤에는 DB 조회 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AllergenMaskService {
+
+    private static final String PRODUCT_CACHE_NAME = "product_allergen_mask";
+    private static final String USER_CACHE_NAME = "user_allergen_mask";
+    private static final long[] EMPTY = new long[0];
+
+    private final ProductAllergyBulkWriter productAllergyBulkWriter;
+    private final AllergyRepository allergyRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${allergy.user-mask.max-size:10000}")
+    private long userMaskMaxSize;
+
+    @Value("${allergy.user-mask.ttl-ms:600000}")
+    private long userMaskTtlMillis;
+
+    @Value("${allergy.product-mask.refresh-interval-ms:600000}")
+    private long productMaskRefreshIntervalMillis;
+
+    private volatile Map<Long, long[]> productMasks;
+    private volatile long productMasksLoadedAt;
+    private final AtomicBoolean productMasksRefreshing = new AtomicBoolean();
+    private ExecutorService refreshExecutor;
+    private Cache<Integer, long[]> userMasks;
+
+    @PostConstruct
+    void initialize() {
+        userMasks = Caffeine.newBuilder()
+                .maximumSize(userMaskMaxSize)
+                .expireAfterWrite(Duration.ofMillis(userMaskTtlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userMasks, USER_CACHE_NAME);
+
+        refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "allergen-mask-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 다른 인스턴스에서 변경된 사용자 알레르기 / 저장된 상품 알레르기 쌍
+        cacheInvalidationBus.subscribe(USER_CACHE_NAME, key -> userMasks.invalidate(Integer.valueOf(key)));
+        cacheInvalidationBus.subscribe(PRODUCT_CACHE_NAME, this::applyEncodedLinks);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reloadProductMasks();
+        } catch (Exception e) {
+            // 첫 확인 시 다시 로딩
+            log.warn("상품 알레르기 마스크 초기 로딩 실패", e);
+        }
+    }
+
+    /**
+     * product_allergy 전체를 다시 읽어 상품 마스크 교체
+     */
+    public synchronized void reloadProductMasks() {
+        Map<Long, long[]> masks = new ConcurrentHashMap<>();
+        productAllergyBulkWriter.forEachLink((productId, allergyId) ->
+                masks.put(productId, withBit(masks.getOrDefault(productId, EMPTY), allergyId)));
+        productMasks = masks;
+        productMasksLoadedAt = System.currentTimeMillis();
+        log.info("상품 알레르기 마스크 갱신 - 상품 {}개", masks.size());
+    }
+
+    /**
+     * 상품에 사용자의 알레르기가 포함되어 있으면 그 알레르기 ID, 없으면 null
+     */
+    public Long findConflict(Long productId, Integer userId) {
+        long[] productMask = currentProductMasks().getOrDefault(productId, EMPTY);
+        if (productMask.length == 0) return null;
+
+        long[] userMask = userMasks.get(userId, this::loadUserMask);
+        int words = Math.min(productMask.length, userMask.length);
+        for (int i = 0; i < words; i++) {
+            long common = productMask[i] & userMask[i];
+            if (common != 0) {
+                return (long) i * Long.SIZE + Long.numberOfTrailingZeros(common);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 사용자 알레르기가 바뀌었을 때 호출 (트랜잭션 안이면 커밋 후 무효화)
+     */
+    public void invalidateUser(Integer userId) {
+        afterCommit(() -> {
+            userMasks.invalidate(userId);
+            cacheInvalidationBus.publish(USER_CACHE_NAME, String.valueOf(userId));
+        });
+    }
+
+    /**
+     * HACCP 매칭 저장분을 상품 마스크에 반영하는 리스너 (매칭 세션 하나당 하나, 단일 스레드에서 사용)
+     */
+    public ProductMaskUpdate newProductUpdate() {
+        return new ProductMaskUpdate();
+    }
+
+    public class ProductMaskUpdate implements ProductAllergyBulkWriter.LinkListener {
+
+        private final StringBuilder pending = new StringBuilder();
+
+        @Override
+        public void onLink(long productId, long allergyId) {
+            if (!pending.isEmpty()) pending.append(',');
+            pending.append(productId).append(':').append(allergyId);
+        }
+
+        /**
+         * 지금까지 저장한 쌍을 이 인스턴스의 마스크에 반영하고 다른 인스턴스에 전달
+         * (트랜잭션 안이면 커밋 후, 롤백되면 반영하지 않음)
+         */
+        public void publish() {
+            if (pending.isEmpty()) return;
+            String encoded = pending.toString();
+            pending.setLength(0);
+            afterCommit(() -> {
+                applyEncodedLinks(encoded);
+                cacheInvalidationBus.publish(PRODUCT_CACHE_NAME, encoded);
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private long[] loadUserMask(Integer userId) {
+        long[] mask = EMPTY;
+        for (Long allergyId : allergyRepository.findAllergyListIdsByUserId(userId)) {
+            mask = withBit(mask, allergyId);
+        }
+        return mask;
+    }
+
+    private synchronized void addLink(long productId, long allergyId) {
+        Map<Long, long[]> masks = productMasks;
+        if (masks == null) return; // 아직 로딩 전이면 로딩할 때 함께 읽힘
+        masks.put(productId, withBit(masks.getOrDefault(productId, EMPTY), allergyId));
+    }
+
+    /**
+     * "상품ID:알레르기ID,..." 형식의 쌍 반영
+     */
+    private void applyEncodedLinks(String encoded) {
+        for (String pair : encoded.split(",")) {
+            int separator = pair.indexOf(':');
+            addLink(Long.parseLong(pair.substring(0, separator)), Long.parseLong(pair.substring(separator + 1)));
+        }
+    }
+
+    /**
+     * 현재 상품 마스크 (아직 로딩 전일 때만 요청 스레드에서 읽고, 주기 갱신은 백그라운드)
+     */
+    private Map<Long, long[]> currentProductMasks() {
+        Map<Long, long[]> masks = productMasks;
+        if (masks == null) {
+            synchronized (this) {
+                if (productMasks == null) {
+                    reloadProductMasks();
+                }
+                masks = productMasks;
+            }
+        } else if (System.currentTimeMillis() - productMasksLoadedAt > productMaskRefreshIntervalMillis) {
+            refreshProductMasksAsync();
+        }
+        return masks;
+    }
+
+    /**
+     * 상품 마스크 전체 갱신 요청 (이미 진행 중이면 무시)
+     */
+    private void refreshProductMasksAsync() {
+        if (!productMasksRefreshing.compareAndSet(false, true)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    reloadProductMasks();
+                } catch (Exception e) {
+                    // 다음 주기까지 이전 마스크 사용
+                    productMasksLoadedAt = System.currentTimeMillis();
+                    log.warn("상품 알레르기 마스크 갱신 실패 - 이전 마스크 사용", e);
+                } finally {
+                    productMasksRefreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            productMasksRefreshing.set(false);
+        }
+    }
+
+    /**
+     * bit 위치에 1을 더한 새 마스크 (기존 배열은 읽는 쪽과 공유되므로 수정하지 않음)
+     */
+    private static long[] withBit(long[] mask, long bit) {
+        if (bit < 0) throw new IllegalArgumentException("잘못된 알레르기 ID: " + bit);
+        int word = (int) (bit / Long.SIZE);
+        long[] result = Arrays.copyOf(mask, Math.max(mask.length, word + 1));
+        result[word] |= 1L << (bit % Long.SIZE);
+        return result;
+    }
+}
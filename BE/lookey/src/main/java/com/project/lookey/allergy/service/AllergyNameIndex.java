@@ -0,0 +1,129 @@
+package com.project.lookey.allergy.service;
+
+import com.project.lookey.allergy.dto.AllergySearchItem;
+import com.project.lookey.allergy.entity.AllergyList;
+import com.project.lookey.allergy.repository.AllergyListRepository;
+import com.project.lookey.common.util.SimilarityUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알레르기 이름 유사도 검색용 메모리 인덱스
+ * - 이름을 미리 정규화/자모 분해해 두고 검색 시에는 검색어만 분해
+ * - 길이 차이로 임계값에 도달할 수 없는 후보는 유사도 계산 생략
+ * - 후보마다 유사도를 한 번만 계산하고 상위 k개만 유지 (동점이면 id 순)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AllergyNameIndex {
+
+    private final AllergyListRepository allergyListRepository;
+
+    @Value("${allergy.name-index.refresh-interval-ms:600000}")
+    private long refreshIntervalMillis;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 첫 검색 시 다시 로딩
+            log.warn("알레르기 이름 인덱스 초기 로딩 실패", e);
+        }
+    }
+
+    /**
+     * allergy_list 테이블을 다시 읽어 인덱스 교체
+     */
+    public synchronized void refresh() {
+        List<AllergyList> allergies = allergyListRepository.findAll(Sort.by("id"));
+
+        Entry[] entries = new Entry[allergies.size()];
+        for (int i = 0; i < entries.length; i++) {
+            AllergyList allergy = allergies.get(i);
+            entries[i] = new Entry(allergy.getId(), allergy.getName(), SimilarityUtil.prepare(allergy.getName()));
+        }
+
+        snapshot = new Snapshot(entries, System.currentTimeMillis());
+        log.info("알레르기 이름 인덱스 갱신 - {}개", entries.length);
+    }
+
+    /**
+     * 검색어와 유사한 알레르기 상위 limit개 (유사도 내림차순)
+     * @param keyword 검색어
+     * @param excludedIds 결과에서 제외할 알레르기 ID (정확 검색으로 이미 찾은 항목)
+     * @param limit 최대 개수
+     */
+    public List<AllergySearchItem> findSimilar(String keyword, Set<Long> excludedIds, int limit) {
+        SimilarityUtil.Prepared query = SimilarityUtil.prepare(keyword);
+        if (query == null || limit <= 0) {
+            return List.of();
+        }
+
+        Entry[] entries = currentSnapshot().entries();
+        Entry[] top = new Entry[limit];
+        double[] topScores = new double[limit];
+        int size = 0;
+
+        for (Entry entry : entries) {
+            if (excludedIds.contains(entry.id()) || !SimilarityUtil.mayBeSimilar(query, entry.prepared())) {
+                continue;
+            }
+
+            double score = SimilarityUtil.calculateSimilarity(query, entry.prepared(), SimilarityUtil.threshold());
+            if (!SimilarityUtil.isSimilar(score)) {
+                continue;
+            }
+            // 가득 찼을 때 마지막 점수보다 높아야 들어감 (동점이면 먼저 들어온 항목 유지)
+            if (size == limit && score <= topScores[size - 1]) {
+                continue;
+            }
+
+            int position = size < limit ? size++ : size - 1;
+            while (position > 0 && topScores[position - 1] < score) {
+                top[position] = top[position - 1];
+                topScores[position] = topScores[position - 1];
+                position--;
+            }
+            top[position] = entry;
+            topScores[position] = score;
+        }
+
+        List<AllergySearchItem> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new AllergySearchItem(top[i].id(), top[i].name()));
+        }
+        return result;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null || System.currentTimeMillis() - current.loadedAt() > refreshIntervalMillis) {
+            synchronized (this) {
+                if (snapshot == current) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Entry(Long id, String name, SimilarityUtil.Prepared prepared) {
+    }
+
+    private record Snapshot(Entry[] entries, long loadedAt) {
+    }
+}
@@ -6,9 +6,9 @@ import com.project.lookey.allergy.dto.AllergyListResponse;
 import com.project.lookey.allergy.dto.AllergyRemoveRequest;
 import com.project.lookey.allergy.dto.AllergySearchResponse;
 import com.project.lookey.allergy.entity.Allergy;
+import com.project.lookey.allergy.entity.AllergyList;
 import com.project.lookey.allergy.repository.AllergyListRepository;
 import com.project.lookey.allergy.repository.AllergyRepository;
-import com.project.lookey.common.util.SimilarityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +28,8 @@ public class AllergyService {
     private final AllergyRepository allergyRepository;
     private final AllergyListRepository allergyListRepository;
     private final UserRepository userRepository;
+    private final AllergyNameIndex allergyNameIndex;
+    private final AllergenMaskService allergenMaskService;
 
     public AllergyListResponse getMyAllergies(Integer userId) {
         var allergies = allergyRepository.findByUser_IdOrderByCreatedAtDesc(userId);
@@ -48,28 +51,17 @@ public class AllergyService {
         // 1단계: 정확한 검색
         var exactMatches = allergyListRepository.findByNameContainingOrderByName(trimmedKeyword);
 
-        // 2단계: 결과가 3개 미만이면 유사도 검색 추가
-        var finalResults = new ArrayList<>(exactMatches);
+        // 2단계: 결과가 3개 미만이면 유사도 검색 추가 (정확한 매칭 결과는 제외)
+        var items = exactMatches.stream()
+                .map(al -> new com.project.lookey.allergy.dto.AllergySearchItem(al.getId(), al.getName()))
+                .collect(Collectors.toCollection(ArrayList::new));
         if (exactMatches.size() < 3) {
-            var allAllergies = allergyListRepository.findAll();
-
-            // 정확한 매칭에서 제외된 알러지들 중 유사한 것들 찾기
-            var similarMatches = allAllergies.stream()
-                    .filter(allergy -> !exactMatches.contains(allergy))
-                    .filter(allergy -> SimilarityUtil.isSimilar(trimmedKeyword, allergy.getName()))
-                    .sorted((a1, a2) -> Double.compare(
-                        SimilarityUtil.calculateSimilarity(trimmedKeyword, a2.getName()),
-                        SimilarityUtil.calculateSimilarity(trimmedKeyword, a1.getName())
-                    ))
-                    .limit(5)
-                    .collect(Collectors.toList());
-
-            finalResults.addAll(similarMatches);
+            Set<Long> exactIds = exactMatches.stream()
+                    .map(AllergyList::getId)
+                    .collect(Collectors.toSet());
+            items.addAll(allergyNameIndex.findSimilar(trimmedKeyword, exactIds, 5));
         }
 
-        var items = finalResults.stream()
-                .map(al -> new com.project.lookey.allergy.dto.AllergySearchItem(al.getId(), al.getName()))
-                .collect(Collectors.toList());
         return new AllergySearchResponse(items);
     }
 
@@ -91,6 +83,7 @@ public class AllergyService {
         } catch (DataIntegrityViolationException e) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 등록된 알레르기입니다.");
         }
+        allergenMaskService.invalidateUser(userId);
     }
 
     @Transactional
@@ -99,5 +92,6 @@ public class AllergyService {
         if (affected == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "알레르기 항목을 찾을 수 없습니다.");
         }
+        allergenMaskService.invalidateUser(userId);
     }
 }
\ No newline at end of file
@@ -37,9 +37,11 @@ public class CartController {
     @GetMapping("/search/{searchword}")
     public ResponseEntity<?> search(
             @AuthenticationPrincipal(expression = "userId") Integer userId,
-            @PathVariable("searchword") String searchword
+            @PathVariable("searchword") String searchword,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        ProductSearchResponse data = cartService.searchProducts(searchword);
+        ProductSearchResponse data = cartService.searchProducts(searchword, limit, cursor);
         return ResponseEntity.ok(Map.of(
                 "status", 200,
                 "message", "검색 성공",
@@ -47,6 +49,19 @@ public class CartController {
         ));
     }
 
+    @GetMapping("/autocomplete/{prefix}")
+    public ResponseEntity<?> autocomplete(
+            @PathVariable("prefix") String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        ProductSearchResponse data = cartService.autocomplete(prefix, limit);
+        return ResponseEntity.ok(Map.of(
+                "status", 200,
+                "message", "자동완성 성공",
+                "result", data
+        ));
+    }
+
     @PostMapping
     public ResponseEntity<?> add(
             @AuthenticationPrincipal(expression = "userId") Integer userId,
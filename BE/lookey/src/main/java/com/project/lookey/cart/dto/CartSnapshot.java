@@ -0,0 +1,36 @@
+package com.project.lookey.cart.dto;
+
+import com.project.lookey.product.util.CartNameMatcher;
+import com.project.lookey.product.util.ProductNameUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매대 매칭용 장바구니 스냅샷 (장바구니가 바뀌기 전까지 캐시에서 재사용)
+ * @param productIds 상품 ID (최근 담은 순)
+ * @param productNames 상품명
+ * @param normalizedNames 공백을 제거한 상품명 (매칭 때마다 다시 만들지 않도록 미리 계산)
+ * @param matcher 매대 상품명 매처 (스냅샷을 만들 때 한 번만 컴파일)
+ */
+public record CartSnapshot(
+        List<Long> productIds,
+        List<String> productNames,
+        List<String> normalizedNames,
+        CartNameMatcher matcher
+) {
+    public static final CartSnapshot EMPTY = new CartSnapshot(List.of(), List.of(), List.of(), CartNameMatcher.EMPTY);
+
+    public static CartSnapshot of(List<Long> productIds, List<String> productNames) {
+        List<String> normalizedNames = new ArrayList<>(productNames.size());
+        for (String name : productNames) {
+            normalizedNames.add(ProductNameUtil.stripWhitespace(name));
+        }
+        return new CartSnapshot(List.copyOf(productIds), List.copyOf(productNames), List.copyOf(normalizedNames),
+                CartNameMatcher.compile(productNames, normalizedNames));
+    }
+
+    public boolean isEmpty() {
+        return productIds.isEmpty();
+    }
+}
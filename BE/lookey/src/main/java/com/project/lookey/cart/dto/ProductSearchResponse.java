@@ -3,8 +3,12 @@ package com.project.lookey.cart.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
+/**
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ */
 public record ProductSearchResponse(
-        List<Item> items
+        List<Item> items,
+        @JsonProperty("next_cursor") String nextCursor
 ) {
     public record Item(
             @JsonProperty("product_id") Long productId,
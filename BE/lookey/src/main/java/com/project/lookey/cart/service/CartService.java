@@ -8,14 +8,16 @@ import com.project.lookey.cart.dto.ProductSearchResponse;
 import com.project.lookey.cart.entity.Cart;
 import com.project.lookey.cart.repository.CartRepository;
 import com.project.lookey.product.repository.ProductRepository;
+import com.project.lookey.product.service.ProductAutocompleteIndex;
+import com.project.lookey.product.service.ProductSearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +28,15 @@ public class CartService {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ProductSearchService productSearchService;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+    private final CartSnapshotService cartSnapshotService;
+
+    @Value("${product.autocomplete.default-limit:10}")
+    private int autocompleteDefaultLimit;
+
+    @Value("${product.autocomplete.max-limit:20}")
+    private int autocompleteMaxLimit;
 
     public CartListResponse getMyCart(Integer userId) {
         var rows = cartRepository.findRowsByUserId(userId);
@@ -35,13 +46,25 @@ public class CartService {
         return new CartListResponse(items);
     }
 
-    public ProductSearchResponse searchProducts(String keyword) {
-        if (keyword == null || keyword.isBlank()) return new ProductSearchResponse(java.util.List.of());
-        var items = productRepository.findNamesByKeyword(keyword.trim())
+    public ProductSearchResponse searchProducts(String keyword, Integer limit, String cursor) {
+        var page = productSearchService.search(keyword, limit, cursor);
+        var items = page.items()
                 .stream()
                 .map(v -> new ProductSearchResponse.Item(v.getId(), v.getName()))
                 .toList();
-        return new ProductSearchResponse(items);
+        return new ProductSearchResponse(items, page.nextCursor());
+    }
+
+    /**
+     * 입력 중인 상품명 자동완성 (메모리 인덱스, DB 조회 없음)
+     */
+    public ProductSearchResponse autocomplete(String prefix, Integer limit) {
+        int size = Math.max(1, Math.min(limit != null ? limit : autocompleteDefaultLimit, autocompleteMaxLimit));
+        var items = productAutocompleteIndex.complete(prefix, size)
+                .stream()
+                .map(s -> new ProductSearchResponse.Item(s.productId(), s.productName()))
+                .toList();
+        return new ProductSearchResponse(items, null);
     }
 
     @Transactional
@@ -63,6 +86,7 @@ public class CartService {
             // UNIQUE(user_id, product_id) 충돌(경쟁 조건)
             throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 장바구니에 담긴 상품입니다.");
         }
+        cartSnapshotService.invalidate(userId);
     }
 
     @Transactional
@@ -71,12 +95,6 @@ public class CartService {
         if (affected == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "장바구니 항목을 찾을 수 없습니다.");
         }
-    }
-
-    public List<String> getCartProductNames(Integer userId) {
-        return cartRepository.findRowsByUserId(userId)
-                .stream()
-                .map(CartRepository.Row::getProductName)
-                .collect(Collectors.toList());
+        cartSnapshotService.invalidate(userId);
     }
 }
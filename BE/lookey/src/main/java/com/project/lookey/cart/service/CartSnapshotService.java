@@ -0,0 +1,195 @@
+package com.project.lookey.cart.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.lookey.cart.dto.CartSnapshot;
+import com.project.lookey.cart.repository.CartRepository;
+import com.project.lookey.common.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 장바구니 스냅샷 캐시 (로컬 캐시 → Redis → DB)
+ * - 매대 검색마다 장바구니 조인 쿼리를 실행하지 않도록 상품 ID/이름을 캐시
+ * - 장바구니 추가/삭제 커밋 후 Redis 값 삭제 + 모든 인스턴스의 로컬 캐시 무효화
+ * - 사용자별 버전을 무효화마다 올리고, DB에서 읽은 스냅샷은 읽기 전 버전이 그대로일 때만 Redis에 저장
+ *   (변경 커밋 전에 읽은 스냅샷이 무효화 뒤에 저장되어 TTL 동안 남는 것을 방지)
+ * - 트랜잭션을 열지 않으므로 캐시에 있으면 DB 커넥션도 사용하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartSnapshotService {
+
+    private static final String CACHE_NAME = "cart_snapshot";
+    private static final String KEY_PREFIX = "cart:snapshot:";
+    private static final String VERSION_KEY_PREFIX = "cart:snapshot:version:";
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final char ROW_SEPARATOR = '\n';
+
+    // KEYS[1] = 스냅샷, KEYS[2] = 버전 / ARGV[1] = DB를 읽기 전 버전, ARGV[2] = 스냅샷, ARGV[3] = TTL(ms)
+    private static final DefaultRedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') == ARGV[1] then "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end", Long.class);
+
+    // KEYS[1] = 스냅샷, KEYS[2] = 버전 / ARGV[1] = 버전 TTL(ms)
+    private static final DefaultRedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[1]) "
+                    + "return redis.call('del', KEYS[1])", Long.class);
+
+    private final CartRepository cartRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cart.snapshot.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cart.snapshot.ttl-ms:600000}")
+    private long ttlMillis;
+
+    private Cache<Integer, CartSnapshot> nearCache;
+
+    @PostConstruct
+    void initialize() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, CACHE_NAME);
+
+        // 다른 인스턴스에서 장바구니가 바뀐 사용자
+        cacheInvalidationBus.subscribe(CACHE_NAME, key -> nearCache.invalidate(Integer.valueOf(key)));
+    }
+
+    public CartSnapshot get(Integer userId) {
+        return nearCache.get(userId, this::load);
+    }
+
+    /**
+     * 장바구니 변경 시 호출 (트랜잭션 안이면 커밋 후 무효화)
+     */
+    public void invalidate(Integer userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(Integer userId) {
+        nearCache.invalidate(userId);
+        try {
+            // 버전은 진행 중인 조회보다 오래 남도록 스냅샷 TTL의 2배
+            redisTemplate.execute(EVICT, List.of(key(userId), versionKey(userId)), String.valueOf(ttlMillis * 2));
+        } catch (Exception e) {
+            // Redis 값은 TTL로 만료되므로 로컬 무효화만 진행
+            log.warn("장바구니 스냅샷 삭제 실패 - userId: {}", userId, e);
+        }
+        cacheInvalidationBus.publish(CACHE_NAME, String.valueOf(userId));
+    }
+
+    private CartSnapshot load(Integer userId) {
+        String cached = null;
+        // DB를 읽기 전 버전 (Redis 조회 실패 시 null → 저장하지 않음)
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key(userId), versionKey(userId)));
+            if (values != null) {
+                cached = values.get(0);
+                version = values.get(1) != null ? values.get(1) : "0";
+            }
+        } catch (Exception e) {
+            log.warn("장바구니 스냅샷 조회 실패 - userId: {}, DB에서 조회", userId, e);
+        }
+        if (cached != null) {
+            CartSnapshot snapshot = decode(cached);
+            if (snapshot != null) return snapshot;
+        }
+
+        List<CartRepository.Row> rows = cartRepository.findRowsByUserId(userId);
+        List<Long> productIds = new ArrayList<>(rows.size());
+        List<String> productNames = new ArrayList<>(rows.size());
+        for (CartRepository.Row row : rows) {
+            productIds.add(row.getProductId());
+            productNames.add(row.getProductName());
+        }
+        CartSnapshot snapshot = CartSnapshot.of(productIds, productNames);
+
+        if (version != null) {
+            try {
+                Long stored = redisTemplate.execute(SET_IF_VERSION, List.of(key(userId), versionKey(userId)),
+                        version, encode(snapshot), String.valueOf(ttlMillis));
+                if (stored == null || stored == 0L) {
+                    log.debug("장바구니 스냅샷 저장 생략 (조회 중 변경됨) - userId: {}", userId);
+                }
+            } catch (Exception e) {
+                log.warn("장바구니 스냅샷 저장 실패 - userId: {}", userId, e);
+            }
+        }
+        return snapshot;
+    }
+
+    private String key(Integer userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Integer userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+
+    /**
+     * "상품ID\t상품명" 행을 줄바꿈으로 연결 (빈 장바구니는 빈 문자열)
+     */
+    private static String encode(CartSnapshot snapshot) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < snapshot.productIds().size(); i++) {
+            if (i > 0) builder.append(ROW_SEPARATOR);
+            builder.append(snapshot.productIds().get(i)).append(FIELD_SEPARATOR)
+                    .append(sanitize(snapshot.productNames().get(i)));
+        }
+        return builder.toString();
+    }
+
+    private static CartSnapshot decode(String value) {
+        if (value.isEmpty()) return CartSnapshot.EMPTY;
+
+        List<Long> productIds = new ArrayList<>();
+        List<String> productNames = new ArrayList<>();
+        try {
+            for (String row : value.split(String.valueOf(ROW_SEPARATOR))) {
+                int separator = row.indexOf(FIELD_SEPARATOR);
+                productIds.add(Long.parseLong(row.substring(0, separator)));
+                productNames.add(row.substring(separator + 1));
+            }
+        } catch (RuntimeException e) {
+            // 형식이 맞지 않으면 DB에서 다시 읽음
+            return null;
+        }
+        return CartSnapshot.of(productIds, productNames);
+    }
+
+    // 구분자와 겹치지 않도록 상품명 안의 탭/줄바꿈은 공백으로 저장
+    private static String sanitize(String name) {
+        return name.replace(FIELD_SEPARATOR, ' ').replace(ROW_SEPARATOR, ' ');
+    }
+}
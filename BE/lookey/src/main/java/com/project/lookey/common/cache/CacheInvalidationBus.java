@@ -0,0 +1,82 @@
+package com.project.lookey.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 로컬 캐시 무효화 메시지 전달 (Redis pub/sub)
+ * - 채널: cache-invalidation:{캐시 이름}, 메시지: {인스턴스 ID}|{키}
+ * - 자기 자신이 보낸 메시지는 무시 (발행한 쪽은 이미 로컬 캐시를 갱신함)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL_PREFIX = "cache-invalidation:";
+    private static final char SEPARATOR = '|';
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+    public CacheInvalidationBus(@Qualifier("productRedisConnectionFactory") RedisConnectionFactory connectionFactory,
+                                StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 구독
+     * @param cacheName 캐시 이름
+     * @param handler 무효화할 키를 받는 콜백
+     */
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(SEPARATOR);
+            if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+                return;
+            }
+            try {
+                handler.accept(body.substring(separator + 1));
+            } catch (Exception e) {
+                log.warn("캐시 무효화 처리 실패 - cache: {}, message: {}", cacheName, body, e);
+            }
+        }, new ChannelTopic(CHANNEL_PREFIX + cacheName));
+    }
+
+    /**
+     * 다른 인스턴스에 키 무효화 알림 (실패해도 요청 처리는 계속)
+     * @param cacheName 캐시 이름
+     * @param key 무효화할 키
+     */
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + cacheName, instanceId + SEPARATOR + key);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 발행 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.project.lookey.common.job;
+
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실행 중인 작업 하나의 상태
+ * - 작업 본문은 setTotal/advance/setMessage로 진행 상황을 보고하고,
+ *   오래 걸리는 반복 중간에 throwIfCancelled()로 취소 요청을 확인
+ * - 조회 요청 스레드와 작업 스레드가 동시에 접근하므로 모든 필드는 원자적으로 갱신
+ */
+public class JobContext {
+
+    private final String jobId;
+    private final String type;
+    private final String lockKey;
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicReference<JobStatus> status = new AtomicReference<>(JobStatus.QUEUED);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private volatile String message;
+    private volatile String error;
+    private volatile Object result;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+    private volatile ScheduledFuture<?> heartbeat;
+
+    JobContext(String jobId, String type, String lockKey) {
+        this.jobId = jobId;
+        this.type = type;
+        this.lockKey = lockKey;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * 전체 작업량 설정 (진행 중에 늘어나도 됨)
+     */
+    public void setTotal(long total) {
+        this.total.set(Math.max(0, total));
+    }
+
+    /**
+     * 완료한 작업량 추가
+     */
+    public void advance(long delta) {
+        completed.addAndGet(delta);
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isCancelled() {
+        return cancelRequested || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * 취소 요청이 있으면 CancellationException으로 작업 중단
+     */
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("작업이 취소되었습니다.");
+        }
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getLockKey() {
+        return lockKey;
+    }
+
+    JobStatus getStatus() {
+        return status.get();
+    }
+
+    Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * 등록 시 만든 heartbeat (작업이 끝나거나 대기 중에 취소되면 중단)
+     */
+    void setHeartbeat(ScheduledFuture<?> heartbeat) {
+        this.heartbeat = heartbeat;
+        // 등록 직후 이미 취소된 경우
+        if (status.get().isFinished()) stopHeartbeat();
+    }
+
+    void stopHeartbeat() {
+        ScheduledFuture<?> current = heartbeat;
+        if (current != null) current.cancel(false);
+    }
+
+    /**
+     * 대기 → 실행 전환 (이미 취소된 작업이면 false)
+     */
+    boolean start() {
+        if (!status.compareAndSet(JobStatus.QUEUED, JobStatus.RUNNING)) {
+            return false;
+        }
+        startedAt = Instant.now();
+        startedNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * 실행 종료 처리
+     */
+    void finish(JobStatus finalStatus, Object result, String error) {
+        this.result = result;
+        this.error = error;
+        finishedAt = Instant.now();
+        finishedNanos = System.nanoTime();
+        status.set(finalStatus);
+    }
+
+    /**
+     * 취소 요청
+     * @return 대기 중이던 작업을 바로 취소했으면 true (실행된 적이 없으므로 정리는 호출한 쪽에서 처리)
+     */
+    boolean cancel() {
+        cancelRequested = true;
+        if (status.compareAndSet(JobStatus.QUEUED, JobStatus.CANCELLED)) {
+            finishedAt = Instant.now();
+            Future<?> current = future;
+            if (current != null) current.cancel(false);
+            // execute()가 실행되지 않으므로 heartbeat도 여기서 중단
+            stopHeartbeat();
+            return true;
+        }
+        Future<?> current = future;
+        if (current != null && status.get() == JobStatus.RUNNING) {
+            current.cancel(true);
+        }
+        return false;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    JobResponse snapshot() {
+        long totalValue = total.get();
+        long completedValue = completed.get();
+
+        double rate = 0.0;
+        Long eta = null;
+        if (startedAt != null) {
+            long end = finishedAt != null && finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            double elapsedSeconds = (end - startedNanos) / 1_000_000_000.0;
+            rate = elapsedSeconds > 0 ? completedValue / elapsedSeconds : 0.0;
+            if (status.get() == JobStatus.RUNNING && totalValue > 0 && rate > 0) {
+                eta = (long) Math.ceil(Math.max(0, totalValue - completedValue) / rate);
+            }
+        }
+
+        return new JobResponse(jobId, type, status.get(), totalValue, completedValue, rate, eta,
+                message, error, result, toText(submittedAt), toText(startedAt), toText(finishedAt));
+    }
+
+    private static String toText(Instant instant) {
+        return instant == null ? null : instant.toString();
+    }
+}
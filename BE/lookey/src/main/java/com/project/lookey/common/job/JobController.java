@@ -0,0 +1,30 @@
+package com.project.lookey.common.job;
+
+import com.project.lookey.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    /**
+     * 작업 진행 상황 조회 (진행률, 처리량, 남은 예상 시간)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(new ApiResponse<>(200, "작업 상태 조회 성공", jobService.getJob(jobId)));
+    }
+
+    /**
+     * 작업 취소
+     */
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<JobResponse>> cancelJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(new ApiResponse<>(200, "작업 취소 요청 완료", jobService.cancel(jobId)));
+    }
+}
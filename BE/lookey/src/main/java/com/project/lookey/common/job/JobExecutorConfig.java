@@ -0,0 +1,62 @@
+package com.project.lookey.common.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 작업 전용 스레드 풀
+ * - 크롤링/동기화처럼 오래 걸리는 작업이 요청 스레드를 점유하지 않도록 분리
+ * - 큐가 가득 차면 대기하지 않고 즉시 거절 (RejectedExecutionException)
+ */
+@Configuration
+public class JobExecutorConfig {
+
+    @Value("${job.executor.threads:2}")
+    private int threads;
+
+    @Value("${job.executor.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Bean(name = "jobExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService jobExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                Math.max(1, threads),
+                Math.max(1, threads),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory("job-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "job");
+    }
+
+    /**
+     * lease 연장/상태 저장용 단일 스레드
+     */
+    @Bean(name = "jobHeartbeatScheduler", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService jobHeartbeatScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(namedThreadFactory("job-heartbeat-"));
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.lookey.common.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 작업 실행 권한 (Redis lease)
+ * - SET NX PX로 획득하여 여러 인스턴스 중 한 곳에서만 같은 종류의 작업을 실행
+ * - 실행 중에는 주기적으로 만료 시간을 연장하고, 인스턴스가 죽으면 만료되어 다른 인스턴스가 획득 가능
+ * - 연장/반납은 자기 소유일 때만 처리 (Lua 스크립트로 확인과 변경을 한 번에)
+ */
+@Component
+@RequiredArgsConstructor
+public class JobLease {
+
+    private static final String KEY_PREFIX = "job:lease:";
+
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean tryAcquire(String lockKey, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key(lockKey), owner, ttl));
+    }
+
+    /**
+     * 만료 시간 연장
+     * @return 아직 소유하고 있으면 true
+     */
+    public boolean renew(String lockKey, String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW, List.of(key(lockKey)), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void release(String lockKey, String owner) {
+        redisTemplate.execute(RELEASE, List.of(key(lockKey)), owner);
+    }
+
+    private String key(String lockKey) {
+        return KEY_PREFIX + lockKey;
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.lookey.common.job;
+
+/**
+ * 작업 상태 조회 응답 (Redis에도 같은 형식으로 저장하여 다른 인스턴스에서도 조회 가능)
+ * @param total 전체 작업량 (모르면 0)
+ * @param ratePerSecond 초당 처리량
+ * @param etaSeconds 남은 예상 시간 (전체 작업량을 모르면 null)
+ * @param submittedAt ISO-8601 (UTC)
+ */
+public record JobResponse(
+        String jobId,
+        String type,
+        JobStatus status,
+        long total,
+        long completed,
+        double ratePerSecond,
+        Long etaSeconds,
+        String message,
+        String error,
+        Object result,
+        String submittedAt,
+        String startedAt,
+        String finishedAt
+) {
+}
@@ -0,0 +1,233 @@
+package com.project.lookey.common.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래 걸리는 작업을 요청 스레드 밖에서 실행하고 상태를 조회
+ * - 등록하면 작업 ID를 바로 반환하고, 작업은 jobExecutor에서 실행
+ * - lockKey별 Redis lease를 등록 시점에 획득하여 여러 인스턴스 중 한 곳에서만 실행 (이미 실행 중이면 409)
+ * - 실행 중에는 heartbeat마다 lease 연장, 상태를 Redis에 저장, 다른 인스턴스에서 온 취소 요청 확인
+ * - 상태는 이 인스턴스 메모리에서 먼저 찾고, 없으면 Redis에 저장된 마지막 상태를 반환
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    private static final String STATUS_KEY_PREFIX = "job:status:";
+    private static final String CANCEL_KEY_PREFIX = "job:cancel:";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, JobContext> jobs = new ConcurrentHashMap<>();
+
+    private final JobLease lease;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService jobExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final Duration leaseTtl;
+    private final long heartbeatIntervalMillis;
+    private final Duration statusTtl;
+
+    public JobService(JobLease lease,
+                      StringRedisTemplate redisTemplate,
+                      ObjectMapper objectMapper,
+                      @Qualifier("jobExecutor") ExecutorService jobExecutor,
+                      @Qualifier("jobHeartbeatScheduler") ScheduledExecutorService heartbeatScheduler,
+                      @Value("${job.lease-ttl-ms:30000}") long leaseTtlMillis,
+                      @Value("${job.heartbeat-interval-ms:2000}") long heartbeatIntervalMillis,
+                      @Value("${job.status-ttl-ms:86400000}") long statusTtlMillis) {
+        this.lease = lease;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jobExecutor = jobExecutor;
+        this.heartbeatScheduler = heartbeatScheduler;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+        this.heartbeatIntervalMillis = Math.max(100, Math.min(heartbeatIntervalMillis, leaseTtlMillis / 3));
+        this.statusTtl = Duration.ofMillis(statusTtlMillis);
+    }
+
+    /**
+     * 작업 등록
+     * @param type 작업 종류 (조회 응답에 표시)
+     * @param lockKey 동시에 하나만 실행할 단위 (같은 lockKey의 작업이 실행 중이면 409)
+     * @param task 작업 본문
+     * @return 등록 직후 상태 (QUEUED)
+     */
+    public JobResponse submit(String type, String lockKey, JobTask task) {
+        pruneFinished();
+
+        String jobId = UUID.randomUUID().toString();
+        String owner = instanceId + ":" + jobId;
+        if (!lease.tryAcquire(lockKey, owner, leaseTtl)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 실행 중인 작업이 있습니다. (" + lockKey + ")");
+        }
+
+        JobContext context = new JobContext(jobId, type, lockKey);
+        jobs.put(jobId, context);
+        context.setHeartbeat(heartbeatScheduler.scheduleWithFixedDelay(
+                () -> heartbeat(context, owner), heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS));
+
+        try {
+            context.setFuture(jobExecutor.submit(() -> execute(context, owner, task)));
+        } catch (RejectedExecutionException e) {
+            context.stopHeartbeat();
+            jobs.remove(jobId);
+            lease.release(lockKey, owner);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        JobResponse snapshot = context.snapshot();
+        saveStatus(snapshot);
+        log.info("작업 등록 - jobId: {}, type: {}, lockKey: {}", jobId, type, lockKey);
+        return snapshot;
+    }
+
+    /**
+     * 작업 상태 조회 (다른 인스턴스에서 실행 중인 작업은 마지막 heartbeat 시점 상태)
+     */
+    public JobResponse getJob(String jobId) {
+        JobContext context = jobs.get(jobId);
+        if (context != null) {
+            return context.snapshot();
+        }
+
+        String json = redisTemplate.opsForValue().get(STATUS_KEY_PREFIX + jobId);
+        if (json == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다.");
+        }
+        try {
+            return objectMapper.readValue(json, JobResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "작업 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 작업 취소 요청
+     * - 이 인스턴스의 작업이면 바로 중단 (실행 중이면 인터럽트)
+     * - 다른 인스턴스의 작업이면 Redis에 취소 표시를 남기고 실행 중인 인스턴스가 다음 heartbeat에서 중단
+     */
+    public JobResponse cancel(String jobId) {
+        JobContext context = jobs.get(jobId);
+        if (context == null) {
+            JobResponse remote = getJob(jobId);
+            if (!remote.status().isFinished()) {
+                redisTemplate.opsForValue().set(CANCEL_KEY_PREFIX + jobId, "1", statusTtl);
+            }
+            return remote;
+        }
+
+        if (context.cancel()) {
+            releaseCancelledQueued(context, instanceId + ":" + jobId);
+        } else {
+            log.info("작업 취소 요청 - jobId: {}, status: {}", jobId, context.getStatus());
+        }
+        return context.snapshot();
+    }
+
+    /**
+     * 실행되기 전에 취소된 작업 정리 (execute()가 실행되지 않으므로 여기서 lease 반납, heartbeat는 cancel()에서 중단)
+     */
+    private void releaseCancelledQueued(JobContext context, String owner) {
+        lease.release(context.getLockKey(), owner);
+        saveStatus(context.snapshot());
+        log.info("작업 취소 (대기 중) - jobId: {}", context.getJobId());
+    }
+
+    private void execute(JobContext context, String owner, JobTask task) {
+        if (!context.start()) {
+            context.stopHeartbeat();
+            return;
+        }
+        saveStatus(context.snapshot());
+
+        try {
+            Object result = task.run(context);
+            context.finish(context.isCancelRequested() ? JobStatus.CANCELLED : JobStatus.SUCCEEDED, result, null);
+        } catch (InterruptedException | CancellationException e) {
+            context.finish(JobStatus.CANCELLED, null, null);
+        } catch (Exception e) {
+            if (context.isCancelRequested()) {
+                context.finish(JobStatus.CANCELLED, null, null);
+            } else {
+                log.error("작업 실패 - jobId: {}, type: {}", context.getJobId(), context.getType(), e);
+                context.finish(JobStatus.FAILED, null, e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        } finally {
+            context.stopHeartbeat();
+            lease.release(context.getLockKey(), owner);
+            saveStatus(context.snapshot());
+        }
+
+        JobResponse snapshot = context.snapshot();
+        log.info("작업 종료 - jobId: {}, type: {}, status: {}, 처리: {}/{}, 처리량: {}/sec",
+                snapshot.jobId(), snapshot.type(), snapshot.status(), snapshot.completed(), snapshot.total(),
+                String.format("%.2f", snapshot.ratePerSecond()));
+    }
+
+    /**
+     * lease 연장 + 상태 저장 + 원격 취소 확인
+     */
+    private void heartbeat(JobContext context, String owner) {
+        try {
+            if (context.getStatus().isFinished()) return;
+
+            if (!lease.renew(context.getLockKey(), owner, leaseTtl)) {
+                // lease를 잃으면 다른 인스턴스가 같은 작업을 시작할 수 있으므로 이쪽을 중단
+                log.warn("작업 lease 만료로 중단 - jobId: {}, lockKey: {}", context.getJobId(), context.getLockKey());
+                if (context.cancel()) {
+                    releaseCancelledQueued(context, owner);
+                }
+                return;
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(CANCEL_KEY_PREFIX + context.getJobId()))) {
+                log.info("작업 취소 요청 수신 - jobId: {}", context.getJobId());
+                if (context.cancel()) {
+                    releaseCancelledQueued(context, owner);
+                    return;
+                }
+            }
+            saveStatus(context.snapshot());
+        } catch (Exception e) {
+            log.warn("작업 heartbeat 실패 - jobId: {}", context.getJobId(), e);
+        }
+    }
+
+    private void saveStatus(JobResponse snapshot) {
+        try {
+            redisTemplate.opsForValue().set(STATUS_KEY_PREFIX + snapshot.jobId(),
+                    objectMapper.writeValueAsString(snapshot), statusTtl);
+        } catch (Exception e) {
+            log.warn("작업 상태 저장 실패 - jobId: {}", snapshot.jobId(), e);
+        }
+    }
+
+    /**
+     * 끝난 지 statusTtl이 지난 작업은 메모리에서 제거 (Redis 상태도 같은 시점에 만료)
+     */
+    private void pruneFinished() {
+        Instant threshold = Instant.now().minus(statusTtl);
+        jobs.values().removeIf(context -> context.getStatus().isFinished()
+                && context.getFinishedAt() != null
+                && context.getFinishedAt().isBefore(threshold));
+    }
+}
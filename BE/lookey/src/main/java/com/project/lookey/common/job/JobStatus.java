@@ -0,0 +1,16 @@
+package com.project.lookey.common.job;
+
+/**
+ * 비동기 작업 상태
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.lookey.common.job;
+
+/**
+ * 작업 스레드에서 실행할 작업 본문
+ * - 진행 상황은 JobContext로 보고하고, 반환값은 작업 결과로 조회됨
+ */
+@FunctionalInterface
+public interface JobTask {
+
+    Object run(JobContext context) throws Exception;
+}
@@ -13,6 +13,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpMethod;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Arrays;
@@ -33,6 +34,10 @@ public class SecurityConfig {
                         // CORS Preflight 요청은 항상 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // Mono 응답은 ASYNC 디스패치로 마무리됨 (최초 REQUEST 디스패치에서 이미 인가됨)
+                        // JWT 필터는 요청당 한 번만 실행되므로 다시 인가하면 익명으로 거부됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                         // 공개 API (인증 불필요)
                         .requestMatchers("/api/auth/**").permitAll() // 로그인/인증 관련
                         .requestMatchers("/api/test/**").permitAll() // 테스트 API
@@ -2,6 +2,7 @@ package com.project.lookey.product.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.lookey.product.dto.ShelfData;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -47,4 +48,16 @@ public class ProductRedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    // 매대 스냅샷 전용 RedisTemplate (바이너리 직렬화, 기존 JSON 값도 읽기 가능)
+    @Bean(name = "shelfDataRedisTemplate")
+    public RedisTemplate<String, ShelfData> shelfDataRedisTemplate() {
+        RedisTemplate<String, ShelfData> template = new RedisTemplate<>();
+        template.setConnectionFactory(productRedisConnectionFactory());
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new ShelfDataRedisSerializer(new ObjectMapper()));
+
+        return template;
+    }
+}
@@ -0,0 +1,244 @@
+package com.project.lookey.product.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.lookey.product.dto.ShelfData;
+import com.project.lookey.product.dto.ShelfItem;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShelfData 전용 바이너리 직렬화
+ * - 좌표/크기는 zigzag varint, 상품명은 사전(이름 테이블) + 인덱스로 저장
+ * - 역직렬화 시 바로 record 생성 (중간 Map 변환 없음)
+ * - 첫 바이트가 '{'인 기존 JSON 값도 읽을 수 있음 (TTL 만료 전 키 호환)
+ *
+ * 포맷: MAGIC, VERSION, userId, createdAt, 이름 개수, 이름들, 상품 개수, (이름 인덱스, x, y, w, h)...
+ */
+public class ShelfDataRedisSerializer implements RedisSerializer<ShelfData> {
+
+    private static final byte MAGIC = (byte) 0xB5;
+    private static final byte VERSION = 1;
+    private static final byte JSON_START = '{';
+
+    private final ObjectMapper objectMapper;
+
+    public ShelfDataRedisSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(ShelfData shelfData) throws SerializationException {
+        if (shelfData == null) {
+            return null;
+        }
+
+        List<ShelfItem> items = shelfData.items() == null ? List.of() : shelfData.items();
+        ByteWriter out = new ByteWriter(16 + items.size() * 8);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        out.writeNullableInt(shelfData.userId());
+        out.writeNullableString(shelfData.createdAt());
+
+        // 이름 사전 (같은 상품명이 여러 번 감지되면 한 번만 저장)
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        int[] nameRefs = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            String name = items.get(i).name();
+            if (name == null) {
+                nameRefs[i] = 0;
+                continue;
+            }
+            Integer ref = dictionary.get(name);
+            if (ref == null) {
+                names.add(name);
+                ref = names.size();
+                dictionary.put(name, ref);
+            }
+            nameRefs[i] = ref;
+        }
+
+        out.writeVarInt(names.size());
+        for (String name : names) {
+            out.writeString(name);
+        }
+
+        out.writeVarInt(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ShelfItem item = items.get(i);
+            out.writeVarInt(nameRefs[i]);
+            out.writeSignedVarInt(item.x());
+            out.writeSignedVarInt(item.y());
+            out.writeSignedVarInt(item.w());
+            out.writeSignedVarInt(item.h());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public ShelfData deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == JSON_START) {
+            return deserializeLegacyJson(bytes);
+        }
+        if (bytes[0] != MAGIC) {
+            throw new SerializationException("알 수 없는 매대 데이터 형식입니다.");
+        }
+
+        try {
+            ByteReader in = new ByteReader(bytes, 1);
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new SerializationException("지원하지 않는 매대 데이터 버전입니다: " + version);
+            }
+
+            Integer userId = in.readNullableInt();
+            String createdAt = in.readNullableString();
+
+            String[] names = new String[in.readVarInt() + 1];
+            for (int i = 1; i < names.length; i++) {
+                names[i] = in.readString();
+            }
+
+            int itemCount = in.readVarInt();
+            List<ShelfItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                String name = names[in.readVarInt()];
+                items.add(new ShelfItem(name, in.readSignedVarInt(), in.readSignedVarInt(),
+                        in.readSignedVarInt(), in.readSignedVarInt()));
+            }
+            return new ShelfData(items, createdAt, userId);
+        } catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException | IllegalArgumentException e) {
+            throw new SerializationException("손상된 매대 데이터입니다.", e);
+        }
+    }
+
+    /**
+     * 기존 GenericJackson2JsonRedisSerializer(타입 정보 없는 JSON)로 저장된 값 읽기
+     */
+    private ShelfData deserializeLegacyJson(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, ShelfData.class);
+        } catch (IOException e) {
+            throw new SerializationException("기존 JSON 매대 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static final class ByteWriter {
+        private byte[] buf;
+        private int count;
+
+        ByteWriter(int initialCapacity) {
+            this.buf = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buf[count++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buf[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[count++] = (byte) value;
+        }
+
+        void writeSignedVarInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeNullableInt(Integer value) {
+            writeByte(value == null ? 0 : 1);
+            if (value != null) {
+                writeSignedVarInt(value);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, buf, count, encoded.length);
+            count += encoded.length;
+        }
+
+        void writeNullableString(String value) {
+            writeByte(value == null ? 0 : 1);
+            if (value != null) {
+                writeString(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (count + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+            }
+        }
+    }
+
+    private static final class ByteReader {
+        private final byte[] buf;
+        private int position;
+
+        ByteReader(byte[] buf, int position) {
+            this.buf = buf;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buf[position++];
+        }
+
+        int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buf[position++];
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("잘못된 varint 값입니다.");
+        }
+
+        int readSignedVarInt() {
+            int raw = readVarInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        Integer readNullableInt() {
+            return readByte() == 0 ? null : readSignedVarInt();
+        }
+
+        String readString() {
+            int length = readVarInt();
+            if (length < 0 || position + length > buf.length) {
+                throw new SerializationException("잘못된 문자열 길이입니다.");
+            }
+            String value = new String(buf, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String readNullableString() {
+            return readByte() == 0 ? null : readString();
+        }
+    }
+}
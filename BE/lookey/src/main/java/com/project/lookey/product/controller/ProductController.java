@@ -1,7 +1,10 @@
 package com.project.lookey.product.controller;
 
-import com.project.lookey.cart.service.CartService;
+import com.project.lookey.cart.dto.CartSnapshot;
+import com.project.lookey.cart.service.CartSnapshotService;
 import com.project.lookey.common.dto.ApiResponse;
+import com.project.lookey.common.job.JobResponse;
+import com.project.lookey.common.job.JobService;
 import com.project.lookey.product.dto.MatchCartResponse;
 import com.project.lookey.product.dto.ProductDirectionResponse;
 import com.project.lookey.product.service.AiSearchService;
@@ -15,8 +18,8 @@ import com.project.lookey.OAuth.Service.oauth.CustomOAuth2User;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -24,64 +27,69 @@ import java.util.Map;
 @RequestMapping("/api/v1/product")
 public class ProductController {
     private final PyonyCrawler crawler;
-    private final CartService cartService;
+    private final CartSnapshotService cartSnapshotService;
     private final AiSearchService aiSearchService;
+    private final JobService jobService;
 
+    /**
+     * 세븐일레븐 음료 크롤링 작업 등록 (진행 상황은 /api/v1/jobs/{jobId}로 조회)
+     * - incremental=true이면 지난 크롤링 이후 바뀐 상품만 파싱/저장
+     */
     @PostMapping("/seven/drinks")
-    public ResponseEntity<Void> run(@RequestParam(defaultValue="1") int start,
-                                    @RequestParam(defaultValue="50") int end) throws Exception {
-        crawler.crawlDrinks(start, end);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<ApiResponse<JobResponse>> run(@RequestParam(defaultValue="1") int start,
+                                                        @RequestParam(defaultValue="50") int end,
+                                                        @RequestParam(defaultValue="false") boolean incremental) {
+        JobResponse job = jobService.submit("crawl-seven-drinks", "crawler:pyony:seven",
+                context -> crawler.crawlDrinks(start, end, incremental, context));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>(202, "크롤링 작업 등록 완료", job));
     }
 
     @PostMapping(value = "/search", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> searchShelf(
+    public Mono<ResponseEntity<Map<String, Object>>> searchShelf(
             @AuthenticationPrincipal CustomOAuth2User principal,
             @RequestPart("file") MultipartFile shelfImage
     ) {
         Integer userId = principal.getUserId();
-        try {
-            // 이미지 검증
-            if (shelfImage == null || shelfImage.isEmpty()) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "이미지 파일이 필요합니다.");
-            }
 
-            // 이미지 파일 형식 검증
-            String contentType = shelfImage.getContentType();
-            if (contentType == null || !contentType.equals("image/jpeg")) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "JPEG 파일만 허용됩니다. 파일형식: " + contentType);
-            }
-
-            // 사용자 장바구니 상품명 목록 조회
-            List<String> cartProductNames = cartService.getCartProductNames(userId);
-
-            // 단일 이미지를 배열로 변환하여 AI 서비스 호출
-            MultipartFile[] imageArray = {shelfImage};
-            List<String> matchedNames = aiSearchService.findMatchedProducts(imageArray, cartProductNames, userId);
-
-            // 응답 생성
-            MatchCartResponse.Result result = new MatchCartResponse.Result(matchedNames.size(), matchedNames);
-            return ResponseEntity.ok(Map.of(
-                    "status", 200,
-                    "message", "매대에서 장바구니 상품 확인 완료",
-                    "result", result
-            ));
+        // 이미지 검증
+        if (shelfImage == null || shelfImage.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "이미지 파일이 필요합니다.");
+        }
 
-        } catch (ResponseStatusException e) {
-            // 이미 적절한 에러 메시지가 있는 경우 그대로 던짐
-            throw e;
-        } catch (Exception e) {
-            // 예상치 못한 에러의 경우 상세 정보 포함
-            String detailedError = "서버 오류: " + e.getClass().getSimpleName() + " - " + e.getMessage() +
-                                  " (userId: " + userId + ", 이미지: " + (shelfImage != null ? "1" : "null") + "장)";
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, detailedError);
+        // 이미지 파일 형식 검증
+        String contentType = shelfImage.getContentType();
+        if (contentType == null || !contentType.equals("image/jpeg")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "JPEG 파일만 허용됩니다. 파일형식: " + contentType);
         }
+
+        // 사용자 장바구니 스냅샷 (장바구니가 바뀌지 않았으면 캐시에서 조회, DB 조회 없음)
+        CartSnapshot cartSnapshot = cartSnapshotService.get(userId);
+
+        // 단일 이미지를 배열로 변환하여 AI 서비스 호출 (AI 응답 대기 중 Tomcat 스레드 반환)
+        MultipartFile[] imageArray = {shelfImage};
+        return aiSearchService.findMatchedProducts(imageArray, cartSnapshot, userId)
+                .map(matchedNames -> {
+                    // 응답 생성
+                    MatchCartResponse.Result result = new MatchCartResponse.Result(matchedNames.size(), matchedNames);
+                    return ResponseEntity.ok(Map.<String, Object>of(
+                            "status", 200,
+                            "message", "매대에서 장바구니 상품 확인 완료",
+                            "result", result
+                    ));
+                })
+                .onErrorMap(e -> !(e instanceof ResponseStatusException), e -> {
+                    // 예상치 못한 에러의 경우 상세 정보 포함
+                    String detailedError = "서버 오류: " + e.getClass().getSimpleName() + " - " + e.getMessage() +
+                                          " (userId: " + userId + ", 이미지: 1장)";
+                    return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, detailedError);
+                });
     }
 
     @PostMapping(value = "/search/location", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<ProductDirectionResponse.Result>> findProductDirection(
+    public Mono<ResponseEntity<ApiResponse<ProductDirectionResponse.Result>>> findProductDirection(
             @AuthenticationPrincipal CustomOAuth2User principal,
             @RequestPart("current_frame") MultipartFile currentFrame,
             @RequestPart("product_name") String productName
@@ -103,18 +111,19 @@ public class ProductController {
         }
 
         // AI 서비스로 상품 위치 조회
-        ProductDirectionResponse.Result result = aiSearchService.findProductDirection(currentFrame, productName.trim(), userId);
-
-        // 케이스별 메시지 설정
-        String message;
-        if ("DIRECTION".equals(result.caseType())) {
-            message = "상품 방향 안내 성공";
-        } else if ("SINGLE_RECOGNIZED".equals(result.caseType())) {
-            message = "단일 상품 인식 완료";
-        } else {
-            message = "상품 검색 완료";
-        }
-
-        return ResponseEntity.ok(new ApiResponse<>(200, message, result));
+        return aiSearchService.findProductDirection(currentFrame, productName.trim(), userId)
+                .map(result -> {
+                    // 케이스별 메시지 설정
+                    String message;
+                    if ("DIRECTION".equals(result.caseType())) {
+                        message = "상품 방향 안내 성공";
+                    } else if ("SINGLE_RECOGNIZED".equals(result.caseType())) {
+                        message = "단일 상품 인식 완료";
+                    } else {
+                        message = "상품 검색 완료";
+                    }
+
+                    return ResponseEntity.ok(new ApiResponse<>(200, message, result));
+                });
     }
-}
\ No newline at end of file
+}
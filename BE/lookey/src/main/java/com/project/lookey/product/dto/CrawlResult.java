@@ -0,0 +1,17 @@
+package com.project.lookey.product.dto;
+
+/**
+ * 크롤링 결과
+ * @param details 조회한 상세 페이지 수
+ * @param notModified 증분 크롤링에서 지난번과 같아 파싱/저장을 생략한 상세 페이지 수
+ * @param skipped 조회 실패/이름 없음으로 저장하지 않은 상세 페이지 수
+ */
+public record CrawlResult(
+        int details,
+        int inserted,
+        int updated,
+        int unchanged,
+        int notModified,
+        int skipped
+) {
+}
@@ -11,7 +11,9 @@ import java.util.Set;
 @Entity
 @Getter
 @Setter
-@Table(name = "product_allergy")
+@Table(name = "product_allergy",
+        uniqueConstraints = @UniqueConstraint(name="uk_product_allergy",
+                columnNames = {"product_id","allergy_id"}))
 public class ProductAllergy {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,84 @@
+package com.project.lookey.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤링한 상세 페이지의 변경 감지 정보 (Redis Hash, 상세 URL → fingerprint)
+ * - ETag/Last-Modified로 조건부 요청, 본문 해시로 파싱 생략, 추출 결과 해시로 DB 저장 생략
+ * - 크롤링 시작 시 한 번에 읽고, DB 저장이 끝난 상품만 모아서 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawlFingerprintStore {
+
+    private static final String KEY_PREFIX = "crawler:fingerprint:";
+    private static final long TTL_DAYS = 30;
+    private static final char SEPARATOR = '\n';
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Map<String, Fingerprint> load(String brand) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(brand));
+        Map<String, Fingerprint> fingerprints = new HashMap<>(entries.size() * 2);
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            Fingerprint fingerprint = Fingerprint.decode((String) entry.getValue());
+            if (fingerprint != null) {
+                fingerprints.put((String) entry.getKey(), fingerprint);
+            }
+        }
+        return fingerprints;
+    }
+
+    public void saveAll(String brand, Map<String, Fingerprint> fingerprints) {
+        if (fingerprints.isEmpty()) return;
+
+        Map<String, String> encoded = new HashMap<>(fingerprints.size() * 2);
+        fingerprints.forEach((url, fingerprint) -> encoded.put(url, fingerprint.encode()));
+        redisTemplate.opsForHash().putAll(key(brand), encoded);
+        redisTemplate.expire(key(brand), TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    public void clear(String brand) {
+        redisTemplate.delete(key(brand));
+    }
+
+    private String key(String brand) {
+        return KEY_PREFIX + brand;
+    }
+
+    /**
+     * @param etag 서버가 보낸 ETag (없으면 null)
+     * @param lastModified 서버가 보낸 Last-Modified (없으면 null)
+     * @param bodyHash 응답 본문 해시
+     * @param detailHash 추출한 이름/가격/행사 해시
+     */
+    public record Fingerprint(String etag, String lastModified, String bodyHash, String detailHash) {
+
+        String encode() {
+            return nullToEmpty(etag) + SEPARATOR + nullToEmpty(lastModified) + SEPARATOR
+                    + nullToEmpty(bodyHash) + SEPARATOR + nullToEmpty(detailHash);
+        }
+
+        static Fingerprint decode(String value) {
+            if (value == null) return null;
+            String[] parts = value.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 4) return null;
+            return new Fingerprint(emptyToNull(parts[0]), emptyToNull(parts[1]),
+                    emptyToNull(parts[2]), emptyToNull(parts[3]));
+        }
+
+        private static String nullToEmpty(String s) {
+            return s == null ? "" : s;
+        }
+
+        private static String emptyToNull(String s) {
+            return s.isEmpty() ? null : s;
+        }
+    }
+}
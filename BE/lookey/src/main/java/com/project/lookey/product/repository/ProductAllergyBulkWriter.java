@@ -0,0 +1,136 @@
+package com.project.lookey.product.repository;
+
+import com.project.lookey.common.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * product_allergy 대량 저장
+ * - 기존 (상품, 알러지) 쌍을 한 번에 읽어 long 집합으로 보관 (상품 ID 상위 32비트 + 알러지 ID 하위 32비트)
+ * - 새 쌍만 모아 JDBC 배치 INSERT IGNORE로 청크 단위 저장
+ *   (IDENTITY 키라 Hibernate 배치가 동작하지 않으므로 JDBC 사용, URL에 rewriteBatchedStatements=true 권장)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductAllergyBulkWriter {
+
+    private static final String SELECT_PAIRS = "SELECT product_id, allergy_id FROM product_allergy";
+    private static final String INSERT_IGNORE =
+            "INSERT IGNORE INTO product_allergy (product_id, allergy_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${haccp.link-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 저장된 (상품, 알러지) 쌍 콜백
+     */
+    @FunctionalInterface
+    public interface LinkListener {
+        void onLink(long productId, long allergyId);
+    }
+
+    /**
+     * 기존 쌍을 미리 읽어 둔 배치 생성 (동기화 1회당 하나)
+     * @param listener 청크 저장이 끝날 때마다 새 쌍마다 호출
+     */
+    public LinkBatch newBatch(LinkListener listener) {
+        LongHashSet existing = new LongHashSet(1024);
+        forEachLink((productId, allergyId) -> existing.add(pack(productId, allergyId)));
+        return new LinkBatch(existing, listener);
+    }
+
+    /**
+     * product_allergy 전체 쌍 순회
+     */
+    public void forEachLink(LinkListener listener) {
+        jdbcTemplate.query(SELECT_PAIRS, rs -> {
+            listener.onLink(rs.getLong(1), rs.getLong(2));
+        });
+    }
+
+    private static long pack(long productId, long allergyId) {
+        if (productId < 0 || productId > 0xFFFFFFFFL || allergyId < 0 || allergyId > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("ID 범위를 벗어났습니다: " + productId + ", " + allergyId);
+        }
+        return (productId << 32) | allergyId;
+    }
+
+    public class LinkBatch {
+
+        private final LongHashSet known;
+        private final LinkListener listener;
+        private long[] pending = new long[256];
+        private int pendingCount;
+        private int inserted;
+
+        private LinkBatch(LongHashSet known, LinkListener listener) {
+            this.known = known;
+            this.listener = listener;
+        }
+
+        /**
+         * 쌍 추가 (이미 DB에 있거나 이번 배치에서 추가된 쌍은 무시)
+         * @return 새 쌍이면 true
+         */
+        public boolean add(long productId, long allergyId) {
+            long key = pack(productId, allergyId);
+            if (!known.add(key)) {
+                return false;
+            }
+
+            if (pendingCount == pending.length) {
+                pending = Arrays.copyOf(pending, pending.length * 2);
+            }
+            pending[pendingCount++] = key;
+            if (pendingCount >= batchSize) {
+                flush();
+            }
+            return true;
+        }
+
+        /**
+         * 모인 쌍을 배치 하나로 저장 (add에서 batchSize마다 자동 호출, 마지막에 한 번 더 호출 필요)
+         */
+        public void flush() {
+            if (pendingCount == 0) return;
+
+            int[] results = jdbcTemplate.batchUpdate(INSERT_IGNORE, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, pending[i] >>> 32);
+                    ps.setLong(2, pending[i] & 0xFFFFFFFFL);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return pendingCount;
+                }
+            });
+            for (int count : results) {
+                // 드라이버가 개수를 알 수 없을 때는 SUCCESS_NO_INFO(-2) 반환
+                inserted += count < 0 ? 1 : count;
+            }
+            // INSERT IGNORE로 무시된 쌍도 DB에는 이미 있으므로 모두 전달
+            for (int i = 0; i < pendingCount; i++) {
+                listener.onLink(pending[i] >>> 32, pending[i] & 0xFFFFFFFFL);
+            }
+            pendingCount = 0;
+        }
+
+        /**
+         * 지금까지 저장된 새 쌍 개수
+         */
+        public int insertedCount() {
+            return inserted;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.lookey.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 크롤링한 상품 대량 저장 (브랜드 단위)
+ * - 브랜드의 기존 (상품명 → 가격/행사)을 한 번에 읽어 두고 값이 바뀐 상품만 저장
+ * - uk_product_name_brand 기준 JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE로 청크 단위 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCatalogBulkWriter {
+
+    private static final String SELECT_BY_BRAND = "SELECT name, price, event FROM product WHERE brand = ?";
+    private static final String UPSERT =
+            "INSERT INTO product (name, brand, price, event, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE price = VALUES(price), event = VALUES(event), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${crawler.upsert-batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 브랜드의 기존 상품을 미리 읽어 둔 배치 생성 (크롤링 1회당 하나)
+     */
+    public UpsertBatch newBatch(String brand) {
+        Map<String, Snapshot> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_BY_BRAND, rs -> {
+            existing.put(rs.getString(1), new Snapshot(rs.getInt(2), rs.getString(3)));
+        }, brand);
+        return new UpsertBatch(brand, existing);
+    }
+
+    private record Snapshot(int price, String event) {
+    }
+
+    private record Row(String name, int price, String event) {
+    }
+
+    public class UpsertBatch {
+
+        private final String brand;
+        private final Map<String, Snapshot> known;
+        private final List<Row> pending = new ArrayList<>();
+        private int inserted;
+        private int updated;
+        private int unchanged;
+
+        private UpsertBatch(String brand, Map<String, Snapshot> known) {
+            this.brand = brand;
+            this.known = known;
+        }
+
+        /**
+         * 상품 추가 (가격/행사가 그대로인 상품은 건너뜀)
+         */
+        public void add(String name, int price, String event) {
+            Snapshot current = new Snapshot(price, event);
+            Snapshot previous = known.put(name, current);
+            if (previous != null && previous.price() == price && Objects.equals(previous.event(), event)) {
+                unchanged++;
+                return;
+            }
+
+            if (previous == null) {
+                inserted++;
+            } else {
+                updated++;
+            }
+            pending.add(new Row(name, price, event));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * 모인 상품을 배치 하나로 저장 (add에서 batchSize마다 자동 호출, 마지막에 한 번 더 호출 필요)
+         */
+        public void flush() {
+            if (pending.isEmpty()) return;
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Row row = pending.get(i);
+                    ps.setString(1, row.name());
+                    ps.setString(2, brand);
+                    ps.setInt(3, row.price());
+                    ps.setString(4, row.event());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return pending.size();
+                }
+            });
+            pending.clear();
+        }
+
+        public int insertedCount() {
+            return inserted;
+        }
+
+        public int updatedCount() {
+            return updated;
+        }
+
+        public int unchangedCount() {
+            return unchanged;
+        }
+    }
+}
@@ -18,11 +18,76 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
         String getName();
     }
 
-    @Query("""
-        select p.id as id, p.name as name
-        from Product p
-        where p.name like concat('%', :q, '%')
-        order by p.name asc
-    """)
-    List<NameView> findNamesByKeyword(@Param("q") String q);
+    interface CatalogView {
+        Long getId();
+        String getName();
+        String getBrand();
+        Integer getPrice();
+        String getEvent();
+    }
+
+    // 메모리 카탈로그용 전체 조회 (생성/수정 시각 제외)
+    @Query("select p.id as id, p.name as name, p.brand as brand, p.price as price, p.event as event from Product p")
+    List<CatalogView> findAllForCatalog();
+
+    /**
+     * rankNo: 0 = 정확히 일치, 1 = 앞부분 일치, 2 = 중간 일치
+     */
+    interface RankedNameView extends NameView {
+        Long getRankNo();
+    }
+
+    /**
+     * 상품명 부분 검색 (ft_product_name FULLTEXT ngram 인덱스로 후보를 좁힌 뒤 LIKE로 확인)
+     * - 정렬: 정확히 일치 > 앞부분 일치 > 중간 일치, 같은 순위는 이름/ID 순
+     * - (rankNo, name, id)가 커서보다 뒤인 행부터 limit개 (첫 페이지는 커서 -1, '', 0)
+     * @param phrase ngram 토큰 크기 이상인 검색어를 큰따옴표로 감싼 boolean mode 구문
+     * @param like LIKE 이스케이프한 검색어
+     */
+    @Query(value = """
+        select ranked.id as id, ranked.name as name, ranked.rank_no as rankNo
+        from (
+            select p.id, p.name,
+                   cast(case
+                       when p.name = :q then 0
+                       when p.name like concat(:like, '%') then 1
+                       else 2
+                   end as signed) as rank_no
+            from product p
+            where match(p.name) against (:phrase in boolean mode)
+              and p.name like concat('%', :like, '%')
+        ) ranked
+        where (ranked.rank_no, ranked.name, ranked.id) > (:cursorRank, :cursorName, :cursorId)
+        order by ranked.rank_no, ranked.name, ranked.id
+        limit :limit
+    """, nativeQuery = true)
+    List<RankedNameView> searchByName(@Param("q") String q,
+                                      @Param("phrase") String phrase,
+                                      @Param("like") String like,
+                                      @Param("cursorRank") long cursorRank,
+                                      @Param("cursorName") String cursorName,
+                                      @Param("cursorId") long cursorId,
+                                      @Param("limit") int limit);
+
+    /**
+     * ngram 토큰보다 짧은 검색어(한 글자)용 앞부분 일치 검색 (uk_product_name_brand 인덱스 범위 조회)
+     */
+    @Query(value = """
+        select ranked.id as id, ranked.name as name, ranked.rank_no as rankNo
+        from (
+            select p.id, p.name,
+                   cast(case when p.name = :q then 0 else 1 end as signed) as rank_no
+            from product p
+            where p.name like concat(:like, '%')
+        ) ranked
+        where (ranked.rank_no, ranked.name, ranked.id) > (:cursorRank, :cursorName, :cursorId)
+        order by ranked.rank_no, ranked.name, ranked.id
+        limit :limit
+    """, nativeQuery = true)
+    List<RankedNameView> searchByNamePrefix(@Param("q") String q,
+                                            @Param("like") String like,
+                                            @Param("cursorRank") long cursorRank,
+                                            @Param("cursorName") String cursorName,
+                                            @Param("cursorId") long cursorId,
+                                            @Param("limit") int limit);
 }
@@ -1,19 +1,16 @@
 package com.project.lookey.product.service;
 
+import com.project.lookey.cart.dto.CartSnapshot;
 import com.project.lookey.product.dto.CurrentFrameResponse;
 import com.project.lookey.product.dto.ProductDirectionResponse;
-import com.project.lookey.product.dto.ShelfData;
 import com.project.lookey.product.dto.ShelfDetectionResponse;
 import com.project.lookey.product.dto.ShelfItem;
-import com.project.lookey.product.entity.Product;
-import com.project.lookey.product.entity.ProductAllergy;
-import com.project.lookey.product.repository.ProductRepository;
-import com.project.lookey.product.repository.ProductAllergyRepository;
-import com.project.lookey.allergy.repository.AllergyRepository;
+import com.project.lookey.product.util.CartNameMatcher;
+import com.project.lookey.product.util.ProductNameUtil;
+import com.project.lookey.allergy.service.AllergenMaskService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
@@ -23,6 +20,8 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.util.List;
@@ -35,208 +34,141 @@ import java.util.stream.Collectors;
 public class AiSearchService {
 
     private final WebClient webClient;
-    private final ProductRepository productRepository;
-    private final ProductAllergyRepository productAllergyRepository;
-    private final AllergyRepository allergyRepository;
+    private final ProductCatalog productCatalog;
+    private final AllergenMaskService allergenMaskService;
     private final ShelfDataService shelfDataService;
 
     @Value("${ai.search.url}")
     private String aiServerUrl;
 
-    public List<String> findMatchedProducts(MultipartFile[] images, List<String> cartProductNames, Integer userId) {
-        try {
-            // 1단계: AI 서버에서 매대 전체 상품 감지
-            ShelfDetectionResponse shelfResponse = detectShelfProducts(images);
-
-            // 2단계: Redis에 매대 데이터 저장
-            shelfDataService.saveShelfData(userId, shelfResponse);
-
-            // 3단계: 장바구니 상품과 매칭
-            List<String> matchedNames = matchProductsWithCart(shelfResponse.items(), cartProductNames);
-
-            log.info("매대 상품 매칭 완료 - userId: {}, 전체 상품: {}개, 매칭된 상품: {}개",
-                    userId, shelfResponse.items().size(), matchedNames.size());
-
-            return matchedNames;
-
-        } catch (Exception e) {
-            log.error("매대 상품 검색 중 오류 발생 - userId: {}", userId, e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "매대 상품 검색 중 오류가 발생했습니다: " + e.getMessage());
-        }
+    public Mono<List<String>> findMatchedProducts(MultipartFile[] images, CartSnapshot cartSnapshot, Integer userId) {
+        // 1단계: AI 서버에서 매대 전체 상품 감지 (응답 대기 중 서블릿 스레드를 점유하지 않음)
+        return detectShelfProducts(images)
+                // Redis 저장은 블로킹 호출이므로 boundedElastic에서 처리
+                .publishOn(Schedulers.boundedElastic())
+                .map(shelfResponse -> {
+                    // 2단계: Redis에 매대 데이터 저장
+                    shelfDataService.saveShelfData(userId, shelfResponse);
+
+                    // 3단계: 장바구니 상품과 매칭
+                    List<String> matchedNames = matchProductsWithCart(shelfResponse.items(), cartSnapshot);
+
+                    log.info("매대 상품 매칭 완료 - userId: {}, 전체 상품: {}개, 매칭된 상품: {}개",
+                            userId, shelfResponse.items().size(), matchedNames.size());
+
+                    return matchedNames;
+                })
+                .onErrorMap(e -> {
+                    log.error("매대 상품 검색 중 오류 발생 - userId: {}", userId, e);
+                    return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "매대 상품 검색 중 오류가 발생했습니다: " + e.getMessage());
+                });
     }
 
     /**
      * AI 서버에서 매대 전체 상품 감지
+     * 업로드 파일은 byte[]로 복사하지 않고 MultipartFile의 Resource 스트림을 그대로 전송
      */
-    private ShelfDetectionResponse detectShelfProducts(MultipartFile[] images) {
-        try {
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
-
-            // 이미지 1장 추가 (API 문서에 따라 1장으로 변경)
-            for (MultipartFile image : images) {
-                ByteArrayResource resource = new ByteArrayResource(image.getBytes()) {
-                    @Override
-                    public String getFilename() {
-                        return image.getOriginalFilename();
-                    }
-                };
-                builder.part("shelf_images", resource);
-            }
-
-            String requestUrl = aiServerUrl + "/api/v1/product/search/ai";
-            ShelfDetectionResponse response = webClient
-                    .post()
-                    .uri(requestUrl)
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData(builder.build()))
-                    .retrieve()
-                    .bodyToMono(ShelfDetectionResponse.class)
-                    .block();
-
-            if (response == null || response.items() == null) {
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "AI 서버에서 올바른 응답을 받지 못했습니다.");
-            }
+    private Mono<ShelfDetectionResponse> detectShelfProducts(MultipartFile[] images) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
 
+        // 이미지 1장 추가 (API 문서에 따라 1장으로 변경)
+        for (MultipartFile image : images) {
+            builder.part("shelf_images", image.getResource());
+        }
 
-            return response;
+        String requestUrl = aiServerUrl + "/api/v1/product/search/ai";
+        return webClient
+                .post()
+                .uri(requestUrl)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(ShelfDetectionResponse.class)
+                .filter(response -> response.items() != null)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "AI 서버에서 올바른 응답을 받지 못했습니다.")))
+                .onErrorMap(this::toAiServerException);
+    }
 
-        } catch (WebClientResponseException e) {
-            String errorDetails = "AI 서버 오류 (상태코드: " + e.getStatusCode() + ")";
-            if (e.getStatusCode().is5xxServerError()) {
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, errorDetails + " - AI 서버에 일시적인 문제가 발생했습니다.");
+    /**
+     * AI 서버 호출 오류를 HTTP 상태 예외로 변환
+     */
+    private ResponseStatusException toAiServerException(Throwable e) {
+        if (e instanceof ResponseStatusException responseStatusException) {
+            return responseStatusException;
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            String errorDetails = "AI 서버 오류 (상태코드: " + responseException.getStatusCode() + ")";
+            if (responseException.getStatusCode().is5xxServerError()) {
+                return new ResponseStatusException(HttpStatus.BAD_GATEWAY, errorDetails + " - AI 서버에 일시적인 문제가 발생했습니다.");
             } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, errorDetails + " - AI 서버 요청이 올바르지 않습니다.");
+                return new ResponseStatusException(HttpStatus.BAD_REQUEST, errorDetails + " - AI 서버 요청이 올바르지 않습니다.");
             }
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일을 읽을 수 없습니다: " + e.getMessage());
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "AI 서비스 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
+        if (e instanceof IOException || e.getCause() instanceof IOException) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "AI 서비스 처리 중 오류가 발생했습니다: " + e.getMessage());
     }
 
     /**
-     * 매대 상품과 장바구니 상품 매칭
+     * 매대 상품과 장바구니 상품 매칭 (스냅샷에 컴파일된 매처로 매대 상품명마다 한 번씩만 스캔)
      */
-    private List<String> matchProductsWithCart(List<ShelfItem> shelfItems, List<String> cartProductNames) {
+    private List<String> matchProductsWithCart(List<ShelfItem> shelfItems, CartSnapshot cartSnapshot) {
+        CartNameMatcher matcher = cartSnapshot.matcher();
         return shelfItems.stream()
                 .map(ShelfItem::name)
-                .filter(shelfProductName ->
-                    cartProductNames.stream()
-                            .anyMatch(cartProductName ->
-                                    isProductNameMatch(shelfProductName, cartProductName)
-                            )
-                )
+                .filter(matcher::matches)
                 .distinct()
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 상품명 매칭 로직 (정확한 매칭 + 부분 매칭)
-     */
-    private boolean isProductNameMatch(String shelfProductName, String cartProductName) {
-        if (shelfProductName == null || cartProductName == null) {
-            return false;
-        }
-
-        // 정확한 매칭
-        if (shelfProductName.equals(cartProductName)) {
-            return true;
-        }
-
-        // 대소문자 무시 매칭
-        if (shelfProductName.equalsIgnoreCase(cartProductName)) {
-            return true;
-        }
-
-        // 부분 매칭 (공백 제거 후)
-        String normalizedShelf = shelfProductName.replaceAll("\\s+", "");
-        String normalizedCart = cartProductName.replaceAll("\\s+", "");
-
-        return normalizedShelf.contains(normalizedCart) || normalizedCart.contains(normalizedShelf);
-    }
-
-    public ProductDirectionResponse.Result findProductDirection(MultipartFile currentFrame, String productName, Integer userId) {
-        try {
-            // 1단계: Redis에서 저장된 매대 데이터 조회
-            ShelfData shelfData = shelfDataService.getShelfData(userId);
-
-            // 2단계: AI 서버에서 현재 화면의 상품들 감지
-            CurrentFrameResponse currentFrameResponse = callLocationAI(currentFrame);
-
-            // 3단계: 매대 데이터와 현재 화면 비교하여 위치 계산
-            ProductDirectionResponse.Result result = calculateLocationResult(shelfData, currentFrameResponse, productName, userId);
-
-            log.info("상품 위치 안내 완료 - userId: {}, 상품: {}, 결과: {}", userId, productName, result.caseType());
-
-            return result;
-
-        } catch (ResponseStatusException e) {
-            // 이미 적절한 에러 메시지가 있는 경우 그대로 던짐
-            throw e;
-        } catch (Exception e) {
-            log.error("상품 위치 안내 중 예상치 못한 오류 - userId: {}, 상품: {}", userId, productName, e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "상품 위치 안내 중 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
-
-    private Optional<Product> findProductByName(String productName) {
-        log.debug("상품 검색 시작 - 입력: '{}'", productName);
-
-        // 먼저 정확한 상품명으로 조회
-        Optional<Product> exactMatch = productRepository.findByName(productName);
-        if (exactMatch.isPresent()) {
-            log.debug("정확한 매칭 성공 - 상품: {}", exactMatch.get().getName());
-            return exactMatch;
-        }
-
-        // 정확한 매칭이 없으면 부분 매칭으로 조회
-        List<ProductRepository.NameView> products = productRepository.findNamesByKeyword(productName);
-        log.debug("부분 매칭 결과 - 개수: {}", products.size());
-
-        if (!products.isEmpty()) {
-            // 첫 번째 매칭 상품의 ID로 전체 정보 조회
-            ProductRepository.NameView nameView = products.get(0);
-            log.debug("부분 매칭된 상품 - ID: {}, 이름: {}", nameView.getId(), nameView.getName());
-            return productRepository.findById(nameView.getId());
-        }
-
-        log.debug("상품을 찾을 수 없음 - 입력: '{}'", productName);
-        return Optional.empty();
+    public Mono<ProductDirectionResponse.Result> findProductDirection(MultipartFile currentFrame, String productName, Integer userId) {
+        // 1단계: Redis에서 저장된 매대 데이터 조회 (블로킹 호출이므로 boundedElastic)
+        Mono<Optional<ShelfIndex>> shelfIndexMono = Mono
+                .fromCallable(() -> Optional.ofNullable(shelfDataService.getShelfIndex(userId)))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        // 2단계: AI 서버에서 현재 화면의 상품들 감지 (매대 조회와 동시에 진행)
+        Mono<CurrentFrameResponse> currentFrameMono = callLocationAI(currentFrame);
+
+        return Mono.zip(shelfIndexMono, currentFrameMono)
+                // 상품/알레르기 DB 조회가 포함되므로 boundedElastic에서 계산
+                .publishOn(Schedulers.boundedElastic())
+                .map(tuple -> {
+                    // 3단계: 매대 데이터와 현재 화면 비교하여 위치 계산
+                    ProductDirectionResponse.Result result = calculateLocationResult(tuple.getT1().orElse(null), tuple.getT2(), productName, userId);
+
+                    log.info("상품 위치 안내 완료 - userId: {}, 상품: {}, 결과: {}", userId, productName, result.caseType());
+
+                    return result;
+                })
+                .onErrorMap(e -> !(e instanceof ResponseStatusException), e -> {
+                    log.error("상품 위치 안내 중 예상치 못한 오류 - userId: {}, 상품: {}", userId, productName, e);
+                    return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "상품 위치 안내 중 오류가 발생했습니다: " + e.getMessage());
+                });
     }
 
     /**
      * 상품에 대한 사용자의 알레르기 여부 체크
-     * @param product 상품 엔티티
+     * @param product 카탈로그 상품
      * @param userId 사용자 ID
      * @return 알레르기가 있으면 true, 없으면 false
      */
-    private boolean checkUserAllergy(Product product, Integer userId) {
+    private boolean checkUserAllergy(ProductCatalog.Item product, Integer userId) {
         try {
-            // 1. 해당 상품이 포함하는 알레르기 목록 조회
-            List<ProductAllergy> productAllergies = productAllergyRepository.findByProduct(product);
-
-            if (productAllergies.isEmpty()) {
-                log.debug("상품에 알레르기 정보 없음 - 상품: {}", product.getName());
-                return false;
-            }
-
-            // 2. 상품의 각 알레르기에 대해 사용자가 해당 알레르기를 가지고 있는지 확인
-            for (ProductAllergy productAllergy : productAllergies) {
-                Long allergyListId = productAllergy.getAllergy().getId();
-                boolean userHasAllergy = allergyRepository.existsByUser_IdAndAllergyList_Id(userId, allergyListId);
-
-                if (userHasAllergy) {
-                    log.info("사용자 알레르기 감지 - 상품: '{}', 알레르기: '{}', 사용자: {}",
-                            product.getName(), productAllergy.getAllergy().getName(), userId);
-                    return true;
-                }
+            // 상품 마스크 & 사용자 마스크 (캐시가 채워진 뒤에는 DB 조회 없음)
+            Long allergyListId = allergenMaskService.findConflict(product.id(), userId);
+            if (allergyListId != null) {
+                log.info("사용자 알레르기 감지 - 상품: '{}', 알레르기 ID: {}, 사용자: {}",
+                        product.name(), allergyListId, userId);
+                return true;
             }
 
-            log.debug("사용자 알레르기 없음 - 상품: '{}', 사용자: {}", product.getName(), userId);
+            log.debug("사용자 알레르기 없음 - 상품: '{}', 사용자: {}", product.name(), userId);
             return false;
 
         } catch (Exception e) {
-            log.error("알레르기 체크 중 오류 - 상품: '{}', 사용자: {}", product.getName(), userId, e);
+            log.error("알레르기 체크 중 오류 - 상품: '{}', 사용자: {}", product.name(), userId, e);
             // 오류 발생 시 안전을 위해 false 반환 (알레르기 없음으로 처리)
             return false;
         }
@@ -245,48 +177,22 @@ public class AiSearchService {
     /**
      * AI 서버에서 현재 화면의 상품들 감지
      */
-    private CurrentFrameResponse callLocationAI(MultipartFile currentFrame) {
-        try {
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
-
-            // 현재 화면 이미지 추가
-            ByteArrayResource resource = new ByteArrayResource(currentFrame.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return currentFrame.getOriginalFilename();
-                }
-            };
-            builder.part("current_frame", resource);
-
-            String requestUrl = aiServerUrl + "/api/v1/product/search/location/ai";
-            CurrentFrameResponse response = webClient
-                    .post()
-                    .uri(requestUrl)
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData(builder.build()))
-                    .retrieve()
-                    .bodyToMono(CurrentFrameResponse.class)
-                    .block();
-
-            if (response == null) {
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "AI 서버에서 응답을 받지 못했습니다.");
-            }
-
-
-            return response;
-
-        } catch (WebClientResponseException e) {
-            String errorDetails = "AI 서버 오류 (상태코드: " + e.getStatusCode() + ")";
-            if (e.getStatusCode().is5xxServerError()) {
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, errorDetails + " - AI 서버에 일시적인 문제가 발생했습니다.");
-            } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, errorDetails + " - AI 서버 요청이 올바르지 않습니다.");
-            }
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일을 읽을 수 없습니다: " + e.getMessage());
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "AI 서비스 처리 중 오류가 발생했습니다: " + e.getMessage());
-        }
+    private Mono<CurrentFrameResponse> callLocationAI(MultipartFile currentFrame) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+
+        // 현재 화면 이미지 추가 (Resource 스트림 그대로 전송)
+        builder.part("current_frame", currentFrame.getResource());
+
+        String requestUrl = aiServerUrl + "/api/v1/product/search/location/ai";
+        return webClient
+                .post()
+                .uri(requestUrl)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(CurrentFrameResponse.class)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "AI 서버에서 응답을 받지 못했습니다.")))
+                .onErrorMap(this::toAiServerException);
     }
 
     /**
@@ -346,26 +252,21 @@ public class AiSearchService {
     /**
      * 매대 데이터와 현재 화면을 비교하여 위치 계산
      */
-    private ProductDirectionResponse.Result calculateLocationResult(ShelfData shelfData, CurrentFrameResponse currentFrame, String productName, Integer userId) {
-        if (shelfData == null || shelfData.items() == null || shelfData.items().isEmpty()) {
+    private ProductDirectionResponse.Result calculateLocationResult(ShelfIndex shelfIndex, CurrentFrameResponse currentFrame, String productName, Integer userId) {
+        if (shelfIndex == null || shelfIndex.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "저장된 매대 정보가 없습니다. 먼저 매대를 스캔해주세요.");
         }
 
 
         // 매대에서 타겟 상품 찾기
-        ShelfItem targetProduct = shelfData.items().stream()
-                .filter(item -> isProductNameMatch(item.name(), productName))
-                .findFirst()
+        ShelfItem targetProduct = shelfIndex.findFirstMatch(productName)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 상품이 매대에서 발견되지 않았습니다."));
 
         // 현재 화면에 상품이 여러 개 감지된 경우 (multiple: true)
         if (currentFrame.multiple()) {
 
             // 현재 화면의 상품들을 매대 데이터와 매칭
-            Optional<ShelfItem> currentProductOpt = shelfData.items().stream()
-                    .filter(shelfItem -> currentFrame.items().stream()
-                            .anyMatch(currentItem -> isProductNameMatch(shelfItem.name(), currentItem)))
-                    .findFirst();
+            Optional<ShelfItem> currentProductOpt = shelfIndex.findFirstMatchAny(currentFrame.items());
 
             if (currentProductOpt.isPresent()) {
                 ShelfItem currentProduct = currentProductOpt.get();
@@ -384,24 +285,24 @@ public class AiSearchService {
                 String detectedProduct = currentFrame.items().get(0);
 
                 // AI가 감지한 상품명과 FE에서 요청한 상품명이 같은지 확인
-                if (isProductNameMatch(detectedProduct, productName)) {
-                    // 상품명이 같은 경우: SINGLE_RECOGNIZED + DB에서 상품 정보 조회
-                    Optional<Product> productOpt = findProductByName(productName);
+                if (ProductNameUtil.isMatch(detectedProduct, productName)) {
+                    // 상품명이 같은 경우: SINGLE_RECOGNIZED + 메모리 카탈로그에서 상품 정보 조회 (정확히 일치 > 부분 일치)
+                    Optional<ProductCatalog.Item> productOpt = productCatalog.findByName(productName);
                     if (productOpt.isPresent()) {
-                        Product product = productOpt.get();
+                        ProductCatalog.Item product = productOpt.get();
 
                         // 사용자 알레르기 체크
                         boolean hasAllergy = checkUserAllergy(product, userId);
 
                         ProductDirectionResponse.Info info = new ProductDirectionResponse.Info(
-                                product.getName(),
-                                product.getPrice(),
-                                product.getEvent(),
+                                product.name(),
+                                product.price(),
+                                product.event(),
                                 hasAllergy
                         );
                         return new ProductDirectionResponse.Result("SINGLE_RECOGNIZED", null, info);
                     } else {
-                        // DB에서 찾지 못한 경우도 SINGLE_RECOGNIZED로 반환 (알레르기 정보 없음)
+                        // 카탈로그에서 찾지 못한 경우도 SINGLE_RECOGNIZED로 반환 (알레르기 정보 없음)
                         ProductDirectionResponse.Info info = new ProductDirectionResponse.Info(
                                 productName,
                                 null,
@@ -414,9 +315,7 @@ public class AiSearchService {
                     // 상품명이 다른 경우: DIRECTION + 매대 데이터 기반 방향 안내
 
                     // 매대 데이터에서 AI가 감지한 상품 찾기
-                    Optional<ShelfItem> currentProductOpt = shelfData.items().stream()
-                            .filter(item -> isProductNameMatch(item.name(), detectedProduct))
-                            .findFirst();
+                    Optional<ShelfItem> currentProductOpt = shelfIndex.findFirstMatch(detectedProduct);
 
                     if (currentProductOpt.isPresent()) {
                         ShelfItem currentProduct = currentProductOpt.get();
@@ -0,0 +1,368 @@
+package com.project.lookey.product.service;
+
+import com.project.lookey.common.util.SimilarityUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 상품명 자동완성용 메모리 인덱스 (DB 조회 없음)
+ * - 상품명을 소문자/공백 제거 후 자모로 분해한 키를 정렬해 두고 이진 탐색으로 앞부분 일치 검색
+ *   (정렬된 키 배열 = 압축된 trie와 같은 탐색 결과, 검색은 O(log n + k))
+ * - 초성만 입력하면 초성 키로 검색: 앞부분 일치 우선, 부족하면 중간 일치 (예: ㅋㅋㄹ → 코카콜라)
+ * - 입력 중인 마지막 글자의 받침은 겹받침의 앞부분이거나 다음 글자의 초성일 수도 있으므로 모두 검색
+ *   (예: 달 → 닭가슴살, 콜 → 코라떼)
+ * - ProductCatalog 스냅샷이 바뀌면 새 인덱스를 만든 뒤 참조만 교체 (검색 중인 요청은 이전 인덱스를 끝까지 사용)
+ */
+@Slf4j
+@Component
+public class ProductAutocompleteIndex {
+
+    private static final char CHO_BASE = 0x1100;
+    private static final char JUNG_BASE = 0x1161;
+
+    // 호환 자음(ㄱ U+3131 ~ ㅎ U+314E) → 초성 인덱스 (겹자음은 초성이 될 수 없으므로 -1)
+    private static final int[] COMPAT_TO_CHO = {
+            0, 1, -1, 2, -1, -1, 3, 4, 5, -1, -1, -1, -1, -1, -1, -1,
+            6, 7, 8, -1, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18
+    };
+
+    // 받침 인덱스 → {다음 글자로 넘어가고 남는 받침, 다음 글자의 초성} (예: ㄺ → ㄹ 받침 + ㄱ 초성)
+    private static final int[][] JONG_SPLIT = {
+            {0, -1},
+            {0, 0}, {0, 1}, {1, 9}, {0, 2}, {4, 12}, {4, 18}, {0, 3}, {0, 5},
+            {8, 0}, {8, 6}, {8, 7}, {8, 9}, {8, 16}, {8, 17}, {8, 18},
+            {0, 6}, {0, 7}, {17, 9}, {0, 9}, {0, 10}, {0, 11}, {0, 12}, {0, 14},
+            {0, 15}, {0, 16}, {0, 17}, {0, 18}
+    };
+
+    // 받침 인덱스 → 이어서 입력하면 될 수 있는 겹받침 (예: ㄹ → ㄺ ㄻ ㄼ ㄽ ㄾ ㄿ ㅀ)
+    private static final int[][] JONG_COMPOUNDS = new int[28][];
+
+    static {
+        Arrays.fill(JONG_COMPOUNDS, new int[0]);
+        JONG_COMPOUNDS[1] = new int[]{3};
+        JONG_COMPOUNDS[4] = new int[]{5, 6};
+        JONG_COMPOUNDS[8] = new int[]{9, 10, 11, 12, 13, 14, 15};
+        JONG_COMPOUNDS[17] = new int[]{18};
+    }
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 카탈로그 스냅샷으로 인덱스 교체 (DB 조회 없음, 다른 인스턴스 갱신은 ProductCatalog가 전달)
+     */
+    @EventListener
+    public synchronized void onCatalogRefreshed(ProductCatalogRefreshedEvent event) {
+        snapshot = Snapshot.build(event.ids(), event.names());
+        log.info("상품 자동완성 인덱스 갱신 - {}개", event.ids().length);
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 상품 (초성만 입력하면 초성 검색)
+     * @param prefix 검색어
+     * @param limit 최대 개수
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        if (prefix == null || limit <= 0) return List.of();
+
+        char[] query = normalize(prefix);
+        if (query.length == 0) return List.of();
+
+        Snapshot current = snapshot;
+        Collector collector = new Collector(current, limit);
+
+        char[] choseong = choseongQuery(query);
+        if (choseong != null) {
+            current.findChoseong(choseong, collector);
+        } else {
+            current.findJamo(toJamo(query), collector);
+
+            int jong = lastJong(query);
+            if (jong > 0) {
+                char last = query[query.length - 1];
+                for (int compound : JONG_COMPOUNDS[jong]) {
+                    if (collector.isFull()) break;
+                    char[] extended = query.clone();
+                    extended[extended.length - 1] = (char) (last - jong + compound);
+                    current.findJamo(toJamo(extended), collector);
+                }
+                if (!collector.isFull()) {
+                    current.findJamo(toJamo(splitLastJong(query, jong)), collector);
+                }
+            }
+        }
+        return collector.result();
+    }
+
+    /**
+     * 소문자 + 공백 제거
+     */
+    private static char[] normalize(String text) {
+        String lower = text.toLowerCase();
+        StringBuilder sb = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString().toCharArray();
+    }
+
+    /**
+     * 모든 글자가 초성이 될 수 있는 호환 자음이면 초성(U+1100~) 배열, 아니면 null
+     */
+    private static char[] choseongQuery(char[] query) {
+        char[] result = new char[query.length];
+        for (int i = 0; i < query.length; i++) {
+            int cho = compatToCho(query[i]);
+            if (cho < 0) return null;
+            result[i] = (char) (CHO_BASE + cho);
+        }
+        return result;
+    }
+
+    /**
+     * 완성되지 않은 자음/모음(호환 자모)을 상품 키와 같은 조합형 자모로 변환
+     */
+    private static String compatToConjoining(char[] query) {
+        char[] result = query.clone();
+        for (int i = 0; i < result.length; i++) {
+            char c = result[i];
+            int cho = compatToCho(c);
+            if (cho >= 0) {
+                result[i] = (char) (CHO_BASE + cho);
+            } else if (c >= 0x314F && c <= 0x3163) {
+                result[i] = (char) (JUNG_BASE + (c - 0x314F));
+            }
+        }
+        return new String(result);
+    }
+
+    private static char[] toJamo(char[] query) {
+        return SimilarityUtil.decomposeKorean(compatToConjoining(query)).toCharArray();
+    }
+
+    /**
+     * 마지막 글자의 받침 인덱스 (완성형 한글이 아니거나 받침이 없으면 0)
+     */
+    private static int lastJong(char[] query) {
+        char last = query[query.length - 1];
+        return last >= 0xAC00 && last <= 0xD7A3 ? (last - 0xAC00) % 28 : 0;
+    }
+
+    /**
+     * 마지막 글자의 받침(겹받침은 뒤쪽 자음)을 다음 글자의 초성으로 옮긴 검색어
+     */
+    private static char[] splitLastJong(char[] query, int jong) {
+        char last = query[query.length - 1];
+        char[] result = Arrays.copyOf(query, query.length + 1);
+        result[query.length - 1] = (char) (last - jong + JONG_SPLIT[jong][0]);
+        result[query.length] = (char) (CHO_BASE + JONG_SPLIT[jong][1]);
+        return result;
+    }
+
+    private static int compatToCho(char c) {
+        return c >= 0x3131 && c <= 0x314E ? COMPAT_TO_CHO[c - 0x3131] : -1;
+    }
+
+    /**
+     * 글자별 초성 키 (한글이 아닌 글자는 그대로)
+     */
+    private static char[] choseongKey(char[] name) {
+        char[] result = new char[name.length];
+        for (int i = 0; i < name.length; i++) {
+            char c = name[i];
+            result[i] = c >= 0xAC00 && c <= 0xD7A3 ? (char) (CHO_BASE + (c - 0xAC00) / (21 * 28)) : c;
+        }
+        return result;
+    }
+
+    private static int compare(char[] key, int offset, char[] query) {
+        int length = Math.min(key.length - offset, query.length);
+        for (int i = 0; i < length; i++) {
+            int diff = key[offset + i] - query[i];
+            if (diff != 0) return diff;
+        }
+        return (key.length - offset) - query.length;
+    }
+
+    private static boolean startsWith(char[] key, int offset, char[] query) {
+        if (key.length - offset < query.length) return false;
+        for (int i = 0; i < query.length; i++) {
+            if (key[offset + i] != query[i]) return false;
+        }
+        return true;
+    }
+
+    public record Suggestion(Long productId, String productName) {
+    }
+
+    /**
+     * 중복 없이 limit개까지 결과 수집 (limit이 작으므로 중복 확인은 선형 탐색)
+     */
+    private static final class Collector {
+
+        private final Snapshot snapshot;
+        private final int[] taken;
+        private final List<Suggestion> result = new ArrayList<>();
+
+        Collector(Snapshot snapshot, int limit) {
+            this.snapshot = snapshot;
+            this.taken = new int[limit];
+        }
+
+        void add(int product) {
+            if (isFull()) return;
+            for (int i = 0; i < result.size(); i++) {
+                if (taken[i] == product) return;
+            }
+            taken[result.size()] = product;
+            result.add(new Suggestion(snapshot.ids[product], snapshot.names[product]));
+        }
+
+        boolean isFull() {
+            return result.size() >= taken.length;
+        }
+
+        List<Suggestion> result() {
+            return result;
+        }
+    }
+
+    /**
+     * 한 번 만든 뒤 수정하지 않는 인덱스
+     * - jamoOrder / choseongOrder: 자모 키 / 초성 키 순으로 정렬한 상품 번호
+     * - infixProducts/infixOffsets: 초성 키의 두 번째 글자부터 시작하는 모든 접미사를 정렬한 목록
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = build(new long[0], new String[0]);
+
+        final long[] ids;
+        final String[] names;
+        final char[][] jamoKeys;
+        final char[][] choseongKeys;
+        final int[] jamoOrder;
+        final int[] choseongOrder;
+        final int[] infixProducts;
+        final int[] infixOffsets;
+
+        private Snapshot(long[] ids, String[] names, char[][] jamoKeys, char[][] choseongKeys,
+                         int[] jamoOrder, int[] choseongOrder, int[] infixProducts, int[] infixOffsets) {
+            this.ids = ids;
+            this.names = names;
+            this.jamoKeys = jamoKeys;
+            this.choseongKeys = choseongKeys;
+            this.jamoOrder = jamoOrder;
+            this.choseongOrder = choseongOrder;
+            this.infixProducts = infixProducts;
+            this.infixOffsets = infixOffsets;
+        }
+
+        /**
+         * @param ids 상품 ID (카탈로그 스냅샷과 공유하는 배열이므로 수정하지 않음)
+         * @param names 같은 순서의 상품명
+         */
+        static Snapshot build(long[] ids, String[] names) {
+            int size = ids.length;
+            char[][] jamoKeys = new char[size][];
+            char[][] choseongKeys = new char[size][];
+            int infixCount = 0;
+
+            for (int i = 0; i < size; i++) {
+                char[] normalized = normalize(names[i]);
+                jamoKeys[i] = SimilarityUtil.decomposeKorean(new String(normalized)).toCharArray();
+                choseongKeys[i] = choseongKey(normalized);
+                infixCount += Math.max(0, normalized.length - 1);
+            }
+
+            int[] jamoOrder = sortedOrder(jamoKeys);
+            int[] choseongOrder = sortedOrder(choseongKeys);
+
+            // 초성 접미사 (상품 번호 << 32 | 시작 위치)
+            Long[] suffixes = new Long[infixCount];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                for (int offset = 1; offset < choseongKeys[i].length; offset++) {
+                    suffixes[n++] = ((long) i << 32) | offset;
+                }
+            }
+            Arrays.sort(suffixes, (a, b) -> {
+                char[] keyA = choseongKeys[(int) (a >>> 32)];
+                char[] keyB = choseongKeys[(int) (b >>> 32)];
+                int offsetA = (int) (long) a;
+                int offsetB = (int) (long) b;
+                int length = Math.min(keyA.length - offsetA, keyB.length - offsetB);
+                for (int i = 0; i < length; i++) {
+                    int diff = keyA[offsetA + i] - keyB[offsetB + i];
+                    if (diff != 0) return diff;
+                }
+                int diff = (keyA.length - offsetA) - (keyB.length - offsetB);
+                return diff != 0 ? diff : Long.compare(a, b);
+            });
+
+            int[] infixProducts = new int[infixCount];
+            int[] infixOffsets = new int[infixCount];
+            for (int i = 0; i < infixCount; i++) {
+                infixProducts[i] = (int) (suffixes[i] >>> 32);
+                infixOffsets[i] = (int) (long) suffixes[i];
+            }
+
+            return new Snapshot(ids, names, jamoKeys, choseongKeys, jamoOrder, choseongOrder, infixProducts, infixOffsets);
+        }
+
+        private static int[] sortedOrder(char[][] keys) {
+            Integer[] order = new Integer[keys.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.<Integer, char[]>comparing(i -> keys[i], Arrays::compare).thenComparingInt(i -> i));
+            return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        }
+
+        void findJamo(char[] query, Collector collector) {
+            findPrefix(jamoOrder, jamoKeys, query, collector);
+        }
+
+        void findChoseong(char[] query, Collector collector) {
+            findPrefix(choseongOrder, choseongKeys, query, collector);
+            if (collector.isFull()) return;
+
+            // 앞부분 일치가 부족하면 중간 일치
+            int low = 0;
+            int high = infixProducts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(choseongKeys[infixProducts[mid]], infixOffsets[mid], query) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < infixProducts.length && !collector.isFull(); i++) {
+                if (!startsWith(choseongKeys[infixProducts[i]], infixOffsets[i], query)) break;
+                collector.add(infixProducts[i]);
+            }
+        }
+
+        private static void findPrefix(int[] order, char[][] keys, char[] query, Collector collector) {
+            int low = 0;
+            int high = order.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(keys[order[mid]], 0, query) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < order.length && !collector.isFull(); i++) {
+                if (!startsWith(keys[order[i]], 0, query)) break;
+                collector.add(order[i]);
+            }
+        }
+    }
+}
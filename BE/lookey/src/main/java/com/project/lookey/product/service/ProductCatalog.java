@@ -0,0 +1,288 @@
+package com.project.lookey.product.service;
+
+import com.project.lookey.common.cache.CacheInvalidationBus;
+import com.project.lookey.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 카탈로그 메모리 스냅샷 (안내 중 상품 조회를 DB 없이 처리)
+ * - product 테이블을 열 단위 배열로 읽고, 이름 해시 인덱스와 2-gram 인덱스를 함께 만듦
+ * - 크롤러가 상품을 저장하면 새 스냅샷을 만든 뒤 참조만 교체 (조회 중인 요청은 이전 스냅샷을 끝까지 사용)
+ * - 다른 인스턴스에는 Redis pub/sub으로 알려 각자 다시 로딩
+ * - 갱신이 끝나면 ProductCatalogRefreshedEvent 발행 (자동완성 인덱스 등은 DB 대신 스냅샷으로 재구성)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    private static final String CACHE_NAME = "product-catalog";
+    // ProductSearchService의 ngram 토큰 크기와 같은 기준 (이보다 짧은 검색어는 앞부분 일치만)
+    private static final int GRAM_SIZE = 2;
+
+    private final ProductRepository productRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 조회 결과 (스냅샷의 한 행)
+     */
+    public record Item(long id, String name, String brand, Integer price, String event) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        // 다른 인스턴스에서 카탈로그가 바뀐 경우
+        cacheInvalidationBus.subscribe(CACHE_NAME, key -> refresh());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 첫 조회 시 다시 로딩
+            log.warn("상품 카탈로그 초기 로딩 실패", e);
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        refresh();
+        cacheInvalidationBus.publish(CACHE_NAME, event.brand());
+    }
+
+    /**
+     * product 테이블을 다시 읽어 스냅샷 교체
+     */
+    public synchronized void refresh() {
+        long startedAt = System.nanoTime();
+        Snapshot built = Snapshot.build(productRepository.findAllForCatalog());
+        snapshot = built;
+        log.info("상품 카탈로그 갱신 - {}개, {}ms", built.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        eventPublisher.publishEvent(new ProductCatalogRefreshedEvent(built.ids, built.names));
+    }
+
+    /**
+     * 상품명으로 조회: 정확히 일치 > 앞부분 일치 > 중간 일치 (대소문자 무시), 같은 순위는 이름/ID 순
+     * (기존 ProductRepository.findByName → ProductSearchService.search(name, 1) 조회와 같은 순서)
+     */
+    public Optional<Item> findByName(String productName) {
+        if (productName == null) return Optional.empty();
+
+        Snapshot current = current();
+        int row = current.findExact(productName);
+        if (row < 0) {
+            row = current.findBest(productName.trim());
+        }
+        return row < 0 ? Optional.empty() : Optional.of(current.item(row));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 불변 스냅샷 (행 번호 = ID 오름차순)
+     */
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final String[] names;
+        private final String[] brands;
+        private final Integer[] prices;
+        private final String[] events;
+        // 소문자로 바꾼 상품명 (대소문자 무시 비교용)
+        private final String[] normalizedNames;
+
+        // 상품명 → 행 번호 (이름이 같은 상품이 여러 브랜드에 있으면 ID가 가장 작은 행)
+        private final Map<String, Integer> rowByName;
+        // 이름 순 (정규화한 이름, 이름, ID) 으로 정렬한 행 번호 (앞부분 일치 범위 검색)
+        private final int[] nameOrder;
+        // 2-gram → 그 2-gram을 포함하는 상품의 nameOrder 위치 (오름차순 = 이름 순)
+        private final Map<Integer, int[]> gramPostings;
+
+        private Snapshot(long[] ids, String[] names, String[] brands, Integer[] prices, String[] events,
+                         String[] normalizedNames, Map<String, Integer> rowByName, int[] nameOrder,
+                         Map<Integer, int[]> gramPostings) {
+            this.ids = ids;
+            this.names = names;
+            this.brands = brands;
+            this.prices = prices;
+            this.events = events;
+            this.normalizedNames = normalizedNames;
+            this.rowByName = rowByName;
+            this.nameOrder = nameOrder;
+            this.gramPostings = gramPostings;
+        }
+
+        static Snapshot build(List<ProductRepository.CatalogView> products) {
+            ProductRepository.CatalogView[] sorted = products.toArray(new ProductRepository.CatalogView[0]);
+            Arrays.sort(sorted, Comparator.comparing(ProductRepository.CatalogView::getId));
+
+            int size = sorted.length;
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            String[] brands = new String[size];
+            Integer[] prices = new Integer[size];
+            String[] events = new String[size];
+            String[] normalizedNames = new String[size];
+            Map<String, Integer> rowByName = new HashMap<>(size * 2);
+            Map<Integer, IntBuffer> postings = new HashMap<>();
+
+            for (int row = 0; row < size; row++) {
+                ProductRepository.CatalogView product = sorted[row];
+                ids[row] = product.getId();
+                names[row] = product.getName();
+                brands[row] = product.getBrand();
+                prices[row] = product.getPrice();
+                events[row] = product.getEvent();
+                normalizedNames[row] = normalize(product.getName());
+                rowByName.putIfAbsent(product.getName(), row);
+            }
+
+            Integer[] order = new Integer[size];
+            for (int row = 0; row < size; row++) {
+                order[row] = row;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer row) -> normalizedNames[row])
+                    .thenComparing(row -> names[row])
+                    .thenComparingInt(row -> row));
+            int[] nameOrder = new int[size];
+            for (int position = 0; position < size; position++) {
+                nameOrder[position] = order[position];
+
+                String name = normalizedNames[order[position]];
+                for (int i = 0; i + GRAM_SIZE <= name.length(); i++) {
+                    postings.computeIfAbsent(gram(name, i), key -> new IntBuffer()).addOnce(position);
+                }
+            }
+
+            Map<Integer, int[]> gramPostings = new HashMap<>(postings.size() * 2);
+            postings.forEach((key, buffer) -> gramPostings.put(key, buffer.toArray()));
+
+            return new Snapshot(ids, names, brands, prices, events, normalizedNames, rowByName, nameOrder,
+                    gramPostings);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        Item item(int row) {
+            return new Item(ids[row], names[row], brands[row], prices[row], events[row]);
+        }
+
+        int findExact(String name) {
+            Integer row = rowByName.get(name);
+            return row != null ? row : -1;
+        }
+
+        /**
+         * 순위가 가장 높은 행 (없으면 -1)
+         * 정렬된 이름에서 정확히 일치하는 이름이 앞부분 일치보다 먼저 오므로,
+         * 앞부분 일치 범위의 첫 행이 있으면 그 행이 답이고 없을 때만 중간 일치를 찾음
+         */
+        int findBest(String query) {
+            if (query.isEmpty()) return -1;
+            String normalized = normalize(query);
+
+            int first = lowerBound(normalized);
+            if (first < nameOrder.length && normalizedNames[nameOrder[first]].startsWith(normalized)) {
+                return nameOrder[first];
+            }
+            if (countNonWhitespace(normalized) < GRAM_SIZE) return -1;
+
+            // 검색어의 2-gram 중 포함하는 상품이 가장 적은 목록만 이름 순으로 확인
+            int[] candidates = null;
+            for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+                int[] posting = gramPostings.get(gram(normalized, i));
+                if (posting == null) return -1;
+                if (candidates == null || posting.length < candidates.length) {
+                    candidates = posting;
+                }
+            }
+            for (int position : candidates) {
+                int row = nameOrder[position];
+                if (normalizedNames[row].contains(normalized)) return row;
+            }
+            return -1;
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = nameOrder.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (normalizedNames[nameOrder[mid]].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static int gram(String s, int offset) {
+            return (s.charAt(offset) << 16) | s.charAt(offset + 1);
+        }
+
+        private static int countNonWhitespace(String s) {
+            int count = 0;
+            for (int i = 0; i < s.length(); i++) {
+                if (!Character.isWhitespace(s.charAt(i))) count++;
+            }
+            return count;
+        }
+
+        private static String normalize(String name) {
+            return name.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 오름차순 int 목록 (같은 값이 연속으로 들어오면 한 번만 저장)
+     */
+    private static final class IntBuffer {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void addOnce(int value) {
+            if (size > 0 && values[size - 1] == value) return;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
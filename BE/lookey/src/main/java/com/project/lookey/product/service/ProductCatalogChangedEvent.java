@@ -0,0 +1,9 @@
+package com.project.lookey.product.service;
+
+/**
+ * 상품 카탈로그(이름/가격/행사)가 바뀌었을 때 발행하는 이벤트 (메모리 인덱스 갱신용)
+ * @param brand 변경된 브랜드
+ * @param changedCount 추가/변경된 상품 수
+ */
+public record ProductCatalogChangedEvent(String brand, int changedCount) {
+}
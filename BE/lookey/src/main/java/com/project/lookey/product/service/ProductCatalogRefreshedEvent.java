@@ -0,0 +1,10 @@
+package com.project.lookey.product.service;
+
+/**
+ * ProductCatalog 스냅샷이 교체된 뒤 발행하는 이벤트 (같은 인스턴스 안에서만)
+ * 배열은 스냅샷과 공유하므로 읽기만 해야 함
+ * @param ids 상품 ID (오름차순)
+ * @param names 같은 순서의 상품명
+ */
+public record ProductCatalogRefreshedEvent(long[] ids, String[] names) {
+}
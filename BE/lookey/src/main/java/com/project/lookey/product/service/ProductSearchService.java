@@ -0,0 +1,90 @@
+package com.project.lookey.product.service;
+
+import com.project.lookey.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 상품명 검색 (FULLTEXT ngram 인덱스 + 순위 + 키셋 페이지네이션)
+ * - 검색어가 ngram 토큰 크기보다 짧으면 앞부분 일치만 검색
+ * - 커서는 마지막 행의 (순위, ID, 이름)을 Base64로 묶은 값
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    private final ProductRepository productRepository;
+
+    @Value("${product.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${product.search.max-limit:50}")
+    private int maxLimit;
+
+    // MySQL ngram_token_size (기본 2)
+    @Value("${product.search.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    public record Page(List<ProductRepository.RankedNameView> items, String nextCursor) {
+    }
+
+    /**
+     * @param limit 페이지 크기 (null이면 기본값, 최대 maxLimit)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public Page search(String keyword, Integer limit, String cursor) {
+        if (keyword == null || keyword.isBlank()) return new Page(List.of(), null);
+
+        String q = keyword.trim();
+        int size = Math.max(1, Math.min(limit != null ? limit : defaultLimit, maxLimit));
+        Cursor after = cursor == null || cursor.isBlank() ? Cursor.FIRST : Cursor.decode(cursor);
+
+        // 한 페이지 더 읽어서 다음 페이지 유무 확인
+        String like = escapeLike(q);
+        String phraseText = q.replace("\"", "");
+        List<ProductRepository.RankedNameView> rows = phraseText.replaceAll("\\s+", "").length() < ngramTokenSize
+                ? productRepository.searchByNamePrefix(q, like, after.rank(), after.name(), after.id(), size + 1)
+                : productRepository.searchByName(q, '"' + phraseText + '"', like,
+                        after.rank(), after.name(), after.id(), size + 1);
+
+        if (rows.size() <= size) return new Page(rows, null);
+
+        List<ProductRepository.RankedNameView> page = rows.subList(0, size);
+        ProductRepository.RankedNameView last = page.get(size - 1);
+        return new Page(page, new Cursor(last.getRankNo(), last.getName(), last.getId()).encode());
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record Cursor(long rank, String name, long id) {
+
+        static final Cursor FIRST = new Cursor(-1, "", 0);
+
+        String encode() {
+            String raw = rank + ":" + id + ":" + name;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int first = raw.indexOf(':');
+                int second = raw.indexOf(':', first + 1);
+                return new Cursor(Long.parseLong(raw.substring(0, first)),
+                        raw.substring(second + 1),
+                        Long.parseLong(raw.substring(first + 1, second)));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+        }
+    }
+}
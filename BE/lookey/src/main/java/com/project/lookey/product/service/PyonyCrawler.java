@@ -1,20 +1,50 @@
 package com.project.lookey.product.service;
 
-import com.project.lookey.product.entity.Product;
-import com.project.lookey.product.repository.ProductRepository;
+import com.project.lookey.common.job.JobContext;
+import com.project.lookey.product.dto.CrawlResult;
+import com.project.lookey.product.repository.CrawlFingerprintStore;
+import com.project.lookey.product.repository.CrawlFingerprintStore.Fingerprint;
+import com.project.lookey.product.repository.ProductCatalogBulkWriter;
+import com.project.lookey.product.util.TokenBucketRateLimiter;
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 public class PyonyCrawler {
 
@@ -22,57 +52,221 @@ public class PyonyCrawler {
     private static final String LIST = BASE + "/brands/seven/";
     private static final Pattern MONEY = Pattern.compile("(\\d[\\d,]*)\\s*원");
     private static final Pattern EVENT = Pattern.compile("\\b([1-4]\\+1)\\b");
-
-    private final ProductRepository repo;
-
-    public PyonyCrawler(ProductRepository repo) {
-        this.repo = repo;
+    private static final String BRAND = "7-ELEVEN";
+
+    private final ProductCatalogBulkWriter catalogWriter;
+    private final CrawlFingerprintStore fingerprintStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService detailExecutor;
+    private final Map<String, TokenBucketRateLimiter> limitersByHost = new ConcurrentHashMap<>();
+    private final double requestsPerSecond;
+    private final int burst;
+    private final int maxRetry;
+
+    // 진행 상황/처리량 지표
+    private final Counter fetchSuccess;
+    private final Counter fetchRetry;
+    private final Counter fetchFailure;
+    private final Counter productsSaved;
+    private final Counter productsSkipped;
+    private final Counter productsUnchanged;
+    private final Counter productsNotModified;
+    private final Timer fetchTimer;
+    private final AtomicInteger detailsQueued = new AtomicInteger();
+    private final AtomicInteger detailsDone = new AtomicInteger();
+
+    public PyonyCrawler(ProductCatalogBulkWriter catalogWriter,
+                        CrawlFingerprintStore fingerprintStore,
+                        ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry,
+                        @Value("${crawler.pyony.requests-per-second:2.0}") double requestsPerSecond,
+                        @Value("${crawler.pyony.burst:2}") int burst,
+                        @Value("${crawler.pyony.concurrency:4}") int concurrency,
+                        @Value("${crawler.pyony.max-retry:3}") int maxRetry) {
+        this.catalogWriter = catalogWriter;
+        this.fingerprintStore = fingerprintStore;
+        this.eventPublisher = eventPublisher;
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxRetry = maxRetry;
+
+        AtomicInteger sequence = new AtomicInteger(1);
+        this.detailExecutor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "pyony-crawler-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.fetchSuccess = Counter.builder("crawler.pyony.requests").tag("result", "success").register(meterRegistry);
+        this.fetchRetry = Counter.builder("crawler.pyony.requests").tag("result", "retry").register(meterRegistry);
+        this.fetchFailure = Counter.builder("crawler.pyony.requests").tag("result", "failure").register(meterRegistry);
+        this.productsSaved = Counter.builder("crawler.pyony.products").tag("result", "saved").register(meterRegistry);
+        this.productsSkipped = Counter.builder("crawler.pyony.products").tag("result", "skipped").register(meterRegistry);
+        this.productsUnchanged = Counter.builder("crawler.pyony.products").tag("result", "unchanged").register(meterRegistry);
+        this.productsNotModified = Counter.builder("crawler.pyony.products").tag("result", "not_modified").register(meterRegistry);
+        this.fetchTimer = Timer.builder("crawler.pyony.fetch").register(meterRegistry);
+        Gauge.builder("crawler.pyony.details.queued", detailsQueued, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("crawler.pyony.details.done", detailsDone, AtomicInteger::get).register(meterRegistry);
     }
 
-    /** 세븐일레븐 - 음료(category=1) 페이지 범위를 크롤링 */
-    public void crawlDrinks(int startPage, int endPage) throws Exception {
-        for (int page = startPage; page <= endPage; page++) {
-            String url = LIST + "?category=1&page=" + page + "&event_type=&item=&sort=&price=&q=";
+    @PreDestroy
+    public void shutdown() {
+        detailExecutor.shutdownNow();
+    }
 
-            Document doc = getWithRetry(url, 3);
-            if (doc == null) break;
+    /**
+     * 세븐일레븐 - 음료(category=1) 페이지 범위를 크롤링
+     * - 목록 페이지는 순서대로 조회 (빈 페이지가 나오면 종료)
+     * - 상세 페이지는 스레드 풀에서 동시에 조회하고, 호스트별 토큰 버킷으로 요청 속도를 제한
+     * - 저장은 호출 스레드에서 목록 순서대로 모아 배치로 처리 (가격/행사가 그대로인 상품은 건너뜀)
+     * - 진행 상황(상세 페이지 수 기준)은 job으로 보고하고, 취소되면 남은 요청을 취소하고 중단
+     * - 상세 페이지마다 fingerprint(ETag/Last-Modified, 본문 해시, 이름/가격/행사 해시)를 저장
+     * @param incremental true이면 지난 fingerprint로 조건부 요청을 보내고,
+     *                    304 또는 본문이 같으면 파싱을, 추출 결과가 같으면 DB 저장을 생략
+     */
+    public CrawlResult crawlDrinks(int startPage, int endPage, boolean incremental, JobContext job) throws Exception {
+        long startedAt = System.nanoTime();
+        detailsQueued.set(0);
+        detailsDone.set(0);
+
+        Map<String, Fingerprint> previous = incremental ? fingerprintStore.load(BRAND) : Map.of();
+        Map<String, Fingerprint> fingerprints = new HashMap<>();
+        List<Future<DetailPage>> details = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        ProductCatalogBulkWriter.UpsertBatch batch = catalogWriter.newBatch(BRAND);
+        int skipped = 0;
+        int notModified = 0;
+        try {
+            for (int page = startPage; page <= endPage; page++) {
+                job.throwIfCancelled();
+                job.setMessage("목록 " + page + "페이지 조회 중");
+                String url = LIST + "?category=1&page=" + page + "&event_type=&item=&sort=&price=&q=";
+
+                Document doc = getWithRetry(url, maxRetry);
+                if (doc == null) break;
+
+                // 상세 링크들 수집 (/brands/seven/products/{id}/ 형태)
+                Elements links = doc.select("a[href*=/brands/seven/products/]");
+                if (links.isEmpty()) break;
+
+                for (Element a : links) {
+                    String href = BASE + a.attr("href");
+                    if (!href.matches(".*/brands/seven/products/\\d+/?$") || !seen.add(href)) continue;
+
+                    detailsQueued.incrementAndGet();
+                    details.add(detailExecutor.submit(() -> {
+                        try {
+                            return fetchDetail(href, previous.get(href));
+                        } finally {
+                            detailsDone.incrementAndGet();
+                        }
+                    }));
+                }
+                job.setTotal(details.size());
+            }
+            job.setMessage("상세 페이지 " + details.size() + "개 처리 중");
+
+            for (Future<DetailPage> future : details) {
+                job.throwIfCancelled();
+                DetailPage page;
+                try {
+                    page = future.get();
+                } catch (ExecutionException e) {
+                    log.warn("상세 페이지 처리 실패", e.getCause());
+                    productsSkipped.increment();
+                    skipped++;
+                    job.advance(1);
+                    continue;
+                }
+                job.advance(1);
+                if (page == null) {
+                    productsSkipped.increment();
+                    skipped++;
+                    continue;
+                }
+                if (page.unchanged()) {
+                    // 지난 크롤링 이후 바뀌지 않은 상품 (DB 저장 생략)
+                    fingerprints.put(page.url(), page.fingerprint());
+                    productsNotModified.increment();
+                    notModified++;
+                    continue;
+                }
+
+                Detail d = page.detail();
+                if (d.name == null || d.name.isBlank()) {
+                    productsSkipped.increment();
+                    skipped++;
+                    continue;
+                }
 
-            // 상세 링크들 수집 (/brands/seven/products/{id}/ 형태)
-            Elements links = doc.select("a[href*=/brands/seven/products/]");
-            if (links.isEmpty()) break;
+                // (name, brand)로 upsert (현재 스키마 기준)
+                int unchangedBefore = batch.unchangedCount();
+                batch.add(d.name, d.stdPrice != null ? d.stdPrice : 0, d.event);
+                if (batch.unchangedCount() > unchangedBefore) {
+                    productsUnchanged.increment();
+                } else {
+                    productsSaved.increment();
+                }
+                fingerprints.put(page.url(), page.fingerprint());
+            }
+            batch.flush();
 
-            for (Element a : links) {
-                String href = BASE + a.attr("href");
-                if (!href.matches(".*/brands/seven/products/\\d+/?$")) continue;
+            // DB 저장이 끝난 상품만 기록 (중간에 실패하면 다음 크롤링에서 다시 저장)
+            fingerprintStore.saveAll(BRAND, fingerprints);
 
-                Detail d = fetchDetail(href);
-                if (d == null || d.name == null || d.name.isBlank()) continue;
+            int changed = batch.insertedCount() + batch.updatedCount();
+            if (changed > 0) {
+                eventPublisher.publishEvent(new ProductCatalogChangedEvent(BRAND, changed));
+            }
+        } finally {
+            // 중단(예외/인터럽트) 시 남은 상세 요청 취소
+            details.forEach(future -> future.cancel(true));
+        }
 
-                // (name, brand)로 upsert (현재 스키마 기준)
-                final String brand = "7-ELEVEN";
-                Optional<Product> found = repo.findByNameAndBrand(d.name, brand);
-                Product p = found.orElseGet(Product::new);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("세븐일레븐 음료 크롤링 완료 - 페이지: {}~{}, 증분: {}, 상세: {}, 신규: {}, 변경: {}, 변경 없음: {}, 생략: {}, 소요: {}s, 처리량: {} pages/sec",
+                startPage, endPage, incremental, details.size(), batch.insertedCount(), batch.updatedCount(),
+                batch.unchangedCount(), notModified,
+                String.format("%.1f", elapsedSeconds),
+                String.format("%.2f", elapsedSeconds > 0 ? details.size() / elapsedSeconds : 0.0));
 
-                p.setName(d.name);
-                p.setBrand(brand);
-                p.setPrice(d.stdPrice != null ? d.stdPrice : 0);
-                p.setEvent(d.event);
+        return new CrawlResult(details.size(), batch.insertedCount(), batch.updatedCount(), batch.unchangedCount(),
+                notModified, skipped);
+    }
 
-                repo.save(p);
+    /**
+     * 상세 페이지 조회 (previous가 있으면 조건부 요청 후 304/같은 본문/같은 추출 결과는 unchanged)
+     */
+    private DetailPage fetchDetail(String href, Fingerprint previous) throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        if (previous != null) {
+            if (previous.etag() != null) headers.put("If-None-Match", previous.etag());
+            if (previous.lastModified() != null) headers.put("If-Modified-Since", previous.lastModified());
+        }
 
-                // 매너 딜레이
-                sleepRandom(300, 700);
-            }
+        Connection.Response response = fetchWithRetry(href, maxRetry, headers);
+        if (response == null) return null;
+        if (response.statusCode() == 304 && previous != null) {
+            return new DetailPage(href, null, previous, true);
+        }
 
-            sleepRandom(700, 1200);
+        // 본문이 그대로면 파싱 생략
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        String bodyHash = sha256(response.bodyAsBytes());
+        if (previous != null && bodyHash.equals(previous.bodyHash())) {
+            return new DetailPage(href, null, new Fingerprint(etag, lastModified, bodyHash, previous.detailHash()), true);
         }
+
+        Detail detail = parseDetail(response.parse());
+        String detailHash = sha256((detail.name + '\0' + detail.stdPrice + '\0' + detail.event)
+                .getBytes(StandardCharsets.UTF_8));
+        boolean unchanged = previous != null && detailHash.equals(previous.detailHash());
+        return new DetailPage(href, detail, new Fingerprint(etag, lastModified, bodyHash, detailHash), unchanged);
     }
 
     /** 상세 페이지에서 이름/가격/행사 추출 */
-    private Detail fetchDetail(String href) throws Exception {
-        Document doc = getWithRetry(href, 3);
-        if (doc == null) return null;
-
+    private Detail parseDetail(Document doc) {
         // 1) 이름 후보: og:title → 개별 h1 → 기타 h 태그
         String name =
                 attrOrNull(doc.selectFirst("meta[property=og:title]"), "content");
@@ -103,24 +297,83 @@ public class PyonyCrawler {
         return new Detail(name, std, promo, event);
     }
 
+    /**
+     * 호스트별 속도 제한을 지키며 조회, 연결 오류/429/5xx는 지터를 준 지수 백오프 후 재시도
+     */
     private Document getWithRetry(String url, int maxRetry) throws InterruptedException {
+        Connection.Response response = fetchWithRetry(url, maxRetry, Map.of());
+        if (response == null) return null;
+        try {
+            return response.parse();
+        } catch (IOException e) {
+            log.debug("크롤링 응답 파싱 오류 - url: {}", url, e);
+            return null;
+        }
+    }
+
+    /**
+     * getWithRetry와 같지만 파싱하지 않은 응답(본문은 읽어 둔 상태)을 반환
+     */
+    private Connection.Response fetchWithRetry(String url, int maxRetry, Map<String, String> headers)
+            throws InterruptedException {
+        TokenBucketRateLimiter limiter = limiterFor(url);
         int attempt = 0;
         while (attempt++ < maxRetry) {
+            limiter.acquire();
+            long startedAt = System.nanoTime();
             try {
-                Connection conn = Jsoup.connect(url)
+                Connection.Response response = Jsoup.connect(url)
                         .userAgent("Mozilla/5.0 (compatible; lookey-crawler)")
+                        .headers(headers)
                         .timeout(15000)
-                        .ignoreHttpErrors(true);
-                return conn.get();
+                        .ignoreHttpErrors(true)
+                        .execute();
+
+                int status = response.statusCode();
+                if (status != 429 && status < 500) {
+                    response.bufferUp();
+                    fetchSuccess.increment();
+                    return response;
+                }
+                log.debug("크롤링 응답 오류 - url: {}, status: {}, attempt: {}", url, status, attempt);
             } catch (IOException e) {
-                // 재시도
-                if (attempt >= maxRetry) return null;
-                sleepRandom(500, 1500);
+                log.debug("크롤링 연결 오류 - url: {}, attempt: {}", url, attempt, e);
+            } finally {
+                fetchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             }
+
+            // 재시도
+            if (attempt >= maxRetry) break;
+            fetchRetry.increment();
+            backoff(attempt);
         }
+        fetchFailure.increment();
         return null;
     }
 
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TokenBucketRateLimiter limiterFor(String url) {
+        String host = URI.create(url).getHost();
+        return limitersByHost.computeIfAbsent(host == null ? "" : host,
+                key -> new TokenBucketRateLimiter(requestsPerSecond, burst));
+    }
+
+    /**
+     * 지수 백오프 (500ms, 1s, 2s ... 최대 8s) 중 절반은 고정, 절반은 무작위
+     */
+    private void backoff(int attempt) throws InterruptedException {
+        long base = Math.min(8000L, 500L << Math.min(attempt - 1, 4));
+        long half = base / 2;
+        Thread.sleep(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
     private Integer firstMoney(String s) {
         Matcher m = MONEY.matcher(s);
         return m.find() ? parseInt(m.group(1)) : null;
@@ -157,11 +410,6 @@ public class PyonyCrawler {
         return s == null || s.isBlank();
     }
 
-    private void sleepRandom(int minMs, int maxMs) throws InterruptedException {
-        int ms = ThreadLocalRandom.current().nextInt(minMs, maxMs + 1);
-        Thread.sleep(ms);
-    }
-    
     /**
      * 제품명 정제: 회사명 제거, 용량 단위 대문자 변환, 용량 뒤 불필요한 문자 제거
      */
@@ -192,4 +440,10 @@ public class PyonyCrawler {
     }
 
     private record Detail(String name, Integer stdPrice, Integer promoPrice, String event) {}
+
+    /**
+     * @param detail 파싱하지 않은 경우(304/같은 본문) null
+     * @param unchanged 지난 크롤링과 같은 상품이면 true
+     */
+    private record DetailPage(String url, Detail detail, Fingerprint fingerprint, boolean unchanged) {}
 }
@@ -1,14 +1,24 @@
 package com.project.lookey.product.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.lookey.common.cache.CacheInvalidationBus;
 import com.project.lookey.product.dto.ShelfData;
 import com.project.lookey.product.dto.ShelfDetectionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -16,14 +26,37 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class ShelfDataService {
 
-    @Qualifier("productRedisTemplate")
-    private final RedisTemplate<String, Object> redisTemplate;
+    @Qualifier("shelfDataRedisTemplate")
+    private final RedisTemplate<String, ShelfData> redisTemplate;
 
-    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
 
     private static final String SHELF_DATA_KEY_PREFIX = "shelf_data:";
+    private static final String NEAR_CACHE_NAME = "shelf_data";
     private static final long TTL_MINUTES = 30;
 
+    @Value("${shelf.near-cache.max-size:10000}")
+    private long nearCacheMaxSize;
+
+    // Redis 앞단 로컬 캐시 (안내 중 매초 반복되는 조회를 Redis 왕복 없이 처리)
+    private Cache<Integer, ShelfIndex> nearCache;
+
+    @PostConstruct
+    void initializeNearCache() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfter(new RedisAlignedExpiry())
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions 등
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, NEAR_CACHE_NAME);
+
+        // 다른 인스턴스에서 저장/삭제된 사용자의 로컬 캐시 무효화
+        cacheInvalidationBus.subscribe(NEAR_CACHE_NAME, key -> nearCache.invalidate(Integer.valueOf(key)));
+    }
+
     /**
      * 매대 데이터를 Redis에 저장
      * @param userId 사용자 ID
@@ -36,6 +69,8 @@ public class ShelfDataService {
 
             // Redis에 저장 (TTL 30분)
             redisTemplate.opsForValue().set(key, shelfData, TTL_MINUTES, TimeUnit.MINUTES);
+            nearCache.put(userId, ShelfIndex.of(shelfData));
+            cacheInvalidationBus.publish(NEAR_CACHE_NAME, String.valueOf(userId));
 
             log.info("매대 데이터 저장 완료 - userId: {}, 상품 개수: {}", userId, response.items().size());
         } catch (Exception e) {
@@ -45,27 +80,44 @@ public class ShelfDataService {
     }
 
     /**
-     * Redis에서 매대 데이터 조회
+     * 매대 데이터 조회 (로컬 캐시 → Redis)
      * @param userId 사용자 ID
      * @return 저장된 매대 데이터, 없으면 null
      */
     public ShelfData getShelfData(Integer userId) {
+        ShelfIndex shelfIndex = getShelfIndex(userId);
+        return shelfIndex == null ? null : shelfIndex.shelfData();
+    }
+
+    /**
+     * 매대 인덱스 조회
+     * 로컬 캐시에 없을 때만 Redis에서 읽어 인덱스를 만들고 캐시에 저장 (없는 데이터는 캐시하지 않음)
+     * @param userId 사용자 ID
+     * @return 매대 인덱스, 저장된 매대 데이터가 없으면 null
+     */
+    public ShelfIndex getShelfIndex(Integer userId) {
+        return nearCache.get(userId, id -> {
+            ShelfData shelfData = loadShelfData(id);
+            return shelfData == null ? null : ShelfIndex.of(shelfData);
+        });
+    }
+
+    /**
+     * Redis에서 매대 데이터 조회
+     * @param userId 사용자 ID
+     * @return 저장된 매대 데이터, 없으면 null
+     */
+    private ShelfData loadShelfData(Integer userId) {
         try {
             String key = generateKey(userId);
-            Object rawData = redisTemplate.opsForValue().get(key);
+            ShelfData shelfData = redisTemplate.opsForValue().get(key);
 
-            if (rawData == null) {
+            if (shelfData == null) {
                 log.info("매대 데이터 없음 - userId: {}", userId);
                 return null;
             }
 
-            // ObjectMapper를 사용해서 안전하게 변환
-            ShelfData shelfData = objectMapper.convertValue(rawData, ShelfData.class);
-
-            if (shelfData != null) {
-                log.info("매대 데이터 조회 성공 - userId: {}, 상품 개수: {}", userId, shelfData.items().size());
-            }
-
+            log.info("매대 데이터 조회 성공 - userId: {}, 상품 개수: {}", userId, shelfData.items().size());
             return shelfData;
         } catch (Exception e) {
             log.error("매대 데이터 조회 실패 - userId: {}, 캐시 데이터 삭제", userId, e);
@@ -81,7 +133,6 @@ public class ShelfDataService {
         }
     }
 
-
     /**
      * 사용자의 매대 데이터 삭제 (캐시 초기화)
      * @param userId 사용자 ID
@@ -90,6 +141,8 @@ public class ShelfDataService {
         try {
             String key = generateKey(userId);
             redisTemplate.delete(key);
+            nearCache.invalidate(userId);
+            cacheInvalidationBus.publish(NEAR_CACHE_NAME, String.valueOf(userId));
             log.info("매대 데이터 삭제 완료 - userId: {}", userId);
         } catch (Exception e) {
             log.error("매대 데이터 삭제 실패 - userId: {}", userId, e);
@@ -104,4 +157,41 @@ public class ShelfDataService {
     private String generateKey(Integer userId) {
         return SHELF_DATA_KEY_PREFIX + userId;
     }
-}
\ No newline at end of file
+
+    /**
+     * 로컬 캐시 만료 시각을 Redis TTL에 맞춤
+     * 저장 시각(created_at) + 30분까지만 보관하여 Redis에서 만료된 데이터를 로컬에서 계속 쓰지 않도록 함
+     */
+    private static class RedisAlignedExpiry implements Expiry<Integer, ShelfIndex> {
+
+        private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(TTL_MINUTES);
+
+        @Override
+        public long expireAfterCreate(Integer userId, ShelfIndex shelfIndex, long currentTime) {
+            return remainingNanos(shelfIndex);
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer userId, ShelfIndex shelfIndex, long currentTime, long currentDuration) {
+            return remainingNanos(shelfIndex);
+        }
+
+        @Override
+        public long expireAfterRead(Integer userId, ShelfIndex shelfIndex, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remainingNanos(ShelfIndex shelfIndex) {
+            if (shelfIndex.createdAt() == null) {
+                return TTL_NANOS;
+            }
+            try {
+                LocalDateTime expiresAt = LocalDateTime.parse(shelfIndex.createdAt()).plusMinutes(TTL_MINUTES);
+                long remaining = Duration.between(LocalDateTime.now(), expiresAt).toNanos();
+                return Math.max(0L, Math.min(TTL_NANOS, remaining));
+            } catch (DateTimeParseException e) {
+                return TTL_NANOS;
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.project.lookey.product.service;
+
+import com.project.lookey.product.dto.ShelfData;
+import com.project.lookey.product.dto.ShelfItem;
+import com.project.lookey.product.util.ProductNameUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 매대 상품 이름 인덱스
+ * ProductNameUtil.isMatch 기준으로 "목록 순서상 첫 번째로 매칭되는 상품"을 전체 스캔 없이 찾음
+ * - 공백 제거 이름 → 최소 인덱스 해시 맵 (검색어가 상품명을 포함하는 경우)
+ * - 소문자 이름 → 인덱스 목록 (대소문자 무시 일치)
+ * - 1/2글자 n-gram 역색인 (상품명이 검색어를 포함하는 경우의 후보 필터)
+ */
+public final class ShelfIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ShelfData shelfData;
+    private final List<ShelfItem> items;
+    private final String createdAt;
+    private final String[] strippedNames;
+    private final Map<String, Integer> firstIndexByStripped = new HashMap<>();
+    private final Map<String, int[]> indicesByLowerName;
+    private final Map<Integer, int[]> unigramPostings;
+    private final Map<Integer, int[]> bigramPostings;
+    private final int firstNamedIndex;
+
+    private ShelfIndex(ShelfData shelfData, List<ShelfItem> items) {
+        this.shelfData = shelfData;
+        this.items = items;
+        this.createdAt = shelfData.createdAt();
+        this.strippedNames = new String[items.size()];
+
+        Map<String, List<Integer>> lowerNames = new HashMap<>();
+        Map<Integer, List<Integer>> unigrams = new HashMap<>();
+        Map<Integer, List<Integer>> bigrams = new HashMap<>();
+        int firstNamed = -1;
+
+        for (int i = 0; i < items.size(); i++) {
+            String name = items.get(i).name();
+            if (name == null) {
+                continue;
+            }
+            if (firstNamed < 0) {
+                firstNamed = i;
+            }
+
+            String stripped = ProductNameUtil.stripWhitespace(name);
+            strippedNames[i] = stripped;
+            firstIndexByStripped.putIfAbsent(stripped, i);
+            lowerNames.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(i);
+
+            for (int c = 0; c < stripped.length(); c++) {
+                addPosting(unigrams, (int) stripped.charAt(c), i);
+                if (c + 1 < stripped.length()) {
+                    addPosting(bigrams, bigramKey(stripped, c), i);
+                }
+            }
+        }
+
+        this.firstNamedIndex = firstNamed;
+        this.indicesByLowerName = toArrays(lowerNames);
+        this.unigramPostings = toArrays(unigrams);
+        this.bigramPostings = toArrays(bigrams);
+    }
+
+    public static ShelfIndex of(ShelfData shelfData) {
+        List<ShelfItem> items = shelfData.items() == null ? List.of() : shelfData.items();
+        return new ShelfIndex(shelfData, items);
+    }
+
+    public ShelfData shelfData() {
+        return shelfData;
+    }
+
+    public List<ShelfItem> items() {
+        return items;
+    }
+
+    public String createdAt() {
+        return createdAt;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * items.stream().filter(item -> isMatch(item.name(), name)).findFirst() 와 같은 결과
+     */
+    public Optional<ShelfItem> findFirstMatch(String name) {
+        int index = firstMatchIndex(name);
+        return index < 0 ? Optional.empty() : Optional.of(items.get(index));
+    }
+
+    /**
+     * 여러 이름 중 하나라도 매칭되는 첫 번째 상품
+     */
+    public Optional<ShelfItem> findFirstMatchAny(List<String> names) {
+        int best = -1;
+        for (String name : names) {
+            int index = firstMatchIndex(name);
+            if (index >= 0 && (best < 0 || index < best)) {
+                best = index;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(items.get(best));
+    }
+
+    private int firstMatchIndex(String name) {
+        if (name == null || firstNamedIndex < 0) {
+            return -1;
+        }
+
+        String query = ProductNameUtil.stripWhitespace(name);
+
+        // 빈 문자열은 모든 상품명에 포함됨
+        if (query.isEmpty()) {
+            return firstNamedIndex;
+        }
+
+        int best = Integer.MAX_VALUE;
+
+        // 대소문자 무시 일치
+        int[] sameLower = indicesByLowerName.getOrDefault(name.toLowerCase(Locale.ROOT), EMPTY);
+        for (int index : sameLower) {
+            if (index >= best) {
+                break;
+            }
+            if (items.get(index).name().equalsIgnoreCase(name)) {
+                best = index;
+                break;
+            }
+        }
+
+        // 검색어가 상품명을 포함 (검색어의 모든 부분 문자열을 해시 조회)
+        for (int start = 0; start <= query.length(); start++) {
+            for (int end = start; end <= query.length(); end++) {
+                Integer index = firstIndexByStripped.get(query.substring(start, end));
+                if (index != null && index < best) {
+                    best = index;
+                }
+            }
+        }
+
+        // 상품명이 검색어를 포함 (n-gram 후보만 검증)
+        for (int index : containingCandidates(query)) {
+            if (index >= best) {
+                break;
+            }
+            if (strippedNames[index] != null && strippedNames[index].contains(query)) {
+                best = index;
+                break;
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /**
+     * 검색어의 n-gram 중 게시 목록이 가장 짧은 것을 후보로 사용
+     */
+    private int[] containingCandidates(String query) {
+        if (query.length() == 1) {
+            return unigramPostings.getOrDefault((int) query.charAt(0), EMPTY);
+        }
+
+        int[] rarest = null;
+        for (int c = 0; c + 1 < query.length(); c++) {
+            int[] postings = bigramPostings.get(bigramKey(query, c));
+            if (postings == null) {
+                return EMPTY;
+            }
+            if (rarest == null || postings.length < rarest.length) {
+                rarest = postings;
+            }
+        }
+        return rarest == null ? EMPTY : rarest;
+    }
+
+    private static int bigramKey(String text, int offset) {
+        return (text.charAt(offset) << 16) | text.charAt(offset + 1);
+    }
+
+    private static <K> void addPosting(Map<K, List<Integer>> postings, K key, int index) {
+        List<Integer> list = postings.computeIfAbsent(key, k -> new ArrayList<>());
+        // 같은 상품 안에서 반복되는 n-gram은 한 번만 기록
+        if (list.isEmpty() || list.get(list.size() - 1) != index) {
+            list.add(index);
+        }
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> source) {
+        Map<K, int[]> result = new HashMap<>(source.size() * 2);
+        source.forEach((key, list) -> result.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+}
@@ -0,0 +1,305 @@
+package com.project.lookey.product.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 상품명 매처 (장바구니가 바뀔 때 한 번만 컴파일)
+ * ProductNameUtil.isMatch(매대 상품명, 장바구니 상품명)를 장바구니 전체에 대해 OR 한 것과 같은 결과
+ * - 대소문자 무시 일치: 대소문자를 접은 장바구니 상품명 집합
+ * - 매대 상품명 ⊇ 장바구니 상품명: 공백 제거한 장바구니 상품명들의 Aho-Corasick 오토마타
+ * - 매대 상품명 ⊆ 장바구니 상품명: 공백 제거한 장바구니 상품명들의 (일반화) 접미사 오토마타
+ * 매대 상품명은 공백을 건너뛰며 한 번씩만 읽고, 매칭 중 객체를 만들지 않음 (대소문자 비교 제외)
+ */
+public final class CartNameMatcher {
+
+    public static final CartNameMatcher EMPTY = compile(List.of(), List.of());
+
+    private final int cartSize;
+    private final Set<String> foldedNames;
+    // 공백뿐인 장바구니 상품명은 모든 매대 상품명에 포함됨
+    private final boolean hasBlankName;
+    private final Automaton keywords;
+    private final int[] failure;
+    private final boolean[] terminal;
+    private final Automaton substrings;
+
+    private CartNameMatcher(int cartSize, Set<String> foldedNames, boolean hasBlankName,
+                            Automaton keywords, int[] failure, boolean[] terminal, Automaton substrings) {
+        this.cartSize = cartSize;
+        this.foldedNames = foldedNames;
+        this.hasBlankName = hasBlankName;
+        this.keywords = keywords;
+        this.failure = failure;
+        this.terminal = terminal;
+        this.substrings = substrings;
+    }
+
+    /**
+     * @param cartNames 장바구니 상품명
+     * @param normalizedCartNames 같은 순서의 ProductNameUtil.stripWhitespace(상품명)
+     */
+    public static CartNameMatcher compile(List<String> cartNames, List<String> normalizedCartNames) {
+        Set<String> foldedNames = new HashSet<>();
+        boolean hasBlankName = false;
+        Builder trie = new Builder();
+        SuffixBuilder suffixes = new SuffixBuilder();
+        List<Integer> terminalStates = new ArrayList<>();
+        int cartSize = 0;
+
+        for (int i = 0; i < cartNames.size(); i++) {
+            String name = cartNames.get(i);
+            if (name == null) continue;
+            cartSize++;
+            foldedNames.add(fold(name));
+
+            String normalized = normalizedCartNames.get(i);
+            if (normalized.isEmpty()) {
+                hasBlankName = true;
+                continue;
+            }
+            terminalStates.add(trie.insert(normalized));
+            suffixes.add(normalized);
+        }
+
+        Automaton keywords = trie.freeze();
+        boolean[] terminal = new boolean[keywords.stateCount()];
+        for (int state : terminalStates) {
+            terminal[state] = true;
+        }
+        int[] failure = buildFailureLinks(keywords, terminal);
+
+        return new CartNameMatcher(cartSize, foldedNames, hasBlankName, keywords, failure, terminal,
+                suffixes.freeze());
+    }
+
+    public boolean isEmpty() {
+        return cartSize == 0;
+    }
+
+    /**
+     * 매대 상품명이 장바구니 상품 중 하나와 매칭되는지
+     */
+    public boolean matches(String shelfProductName) {
+        if (shelfProductName == null || cartSize == 0) return false;
+        if (hasBlankName) return true;
+
+        // 매대 상품명(공백 제거)에 장바구니 상품명이 포함 / 장바구니 상품명에 매대 상품명이 포함
+        int keywordState = 0;
+        int substringState = 0;
+        for (int i = 0, length = shelfProductName.length(); i < length; i++) {
+            char c = shelfProductName.charAt(i);
+            if (ProductNameUtil.isWhitespace(c)) continue;
+
+            keywordState = nextKeywordState(keywordState, c);
+            if (terminal[keywordState]) return true;
+            if (substringState >= 0) {
+                substringState = substrings.next(substringState, c);
+            }
+        }
+        if (substringState >= 0) return true;
+
+        // 대소문자만 다른 경우
+        return foldedNames.contains(fold(shelfProductName));
+    }
+
+    private int nextKeywordState(int state, char c) {
+        while (true) {
+            int next = keywords.next(state, c);
+            if (next >= 0) return next;
+            if (state == 0) return 0;
+            state = failure[state];
+        }
+    }
+
+    /**
+     * String.equalsIgnoreCase와 같은 기준으로 문자마다 대소문자를 접음
+     */
+    private static String fold(String s) {
+        char[] chars = new char[s.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * BFS로 실패 링크 계산, 실패 링크를 따라 닿는 상태가 종료 상태면 함께 종료 상태로 표시
+     */
+    private static int[] buildFailureLinks(Automaton trie, boolean[] terminal) {
+        int[] failure = new int[trie.stateCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = trie.offsets[0]; e < trie.offsets[1]; e++) {
+            failure[trie.targets[e]] = 0;
+            queue.add(trie.targets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = trie.offsets[state]; e < trie.offsets[state + 1]; e++) {
+                char c = trie.labels[e];
+                int child = trie.targets[e];
+
+                int fallback = failure[state];
+                int link;
+                while ((link = trie.next(fallback, c)) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = link >= 0 ? link : 0;
+                terminal[child] |= terminal[failure[child]];
+                queue.add(child);
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * 상태별 전이를 문자 순으로 정렬해 둔 배열 (이진 탐색)
+     */
+    private static final class Automaton {
+
+        private final int[] offsets;
+        private final char[] labels;
+        private final int[] targets;
+
+        private Automaton(int[] offsets, char[] labels, int[] targets) {
+            this.offsets = offsets;
+            this.labels = labels;
+            this.targets = targets;
+        }
+
+        static Automaton of(List<Map<Character, Integer>> edges) {
+            int[] offsets = new int[edges.size() + 1];
+            for (int state = 0; state < edges.size(); state++) {
+                offsets[state + 1] = offsets[state] + edges.get(state).size();
+            }
+            char[] labels = new char[offsets[edges.size()]];
+            int[] targets = new int[labels.length];
+            for (int state = 0; state < edges.size(); state++) {
+                Character[] keys = edges.get(state).keySet().toArray(new Character[0]);
+                Arrays.sort(keys);
+                int e = offsets[state];
+                for (Character key : keys) {
+                    labels[e] = key;
+                    targets[e] = edges.get(state).get(key);
+                    e++;
+                }
+            }
+            return new Automaton(offsets, labels, targets);
+        }
+
+        int stateCount() {
+            return offsets.length - 1;
+        }
+
+        /**
+         * @return 다음 상태, 전이가 없으면 -1
+         */
+        int next(int state, char c) {
+            int index = Arrays.binarySearch(labels, offsets[state], offsets[state + 1], c);
+            return index >= 0 ? targets[index] : -1;
+        }
+    }
+
+    /**
+     * 장바구니 상품명 트라이
+     */
+    private static final class Builder {
+
+        private final List<Map<Character, Integer>> edges = new ArrayList<>();
+
+        Builder() {
+            edges.add(new HashMap<>());
+        }
+
+        int insert(String word) {
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = edges.get(state).get(word.charAt(i));
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new HashMap<>());
+                    edges.get(state).put(word.charAt(i), next);
+                }
+                state = next;
+            }
+            return state;
+        }
+
+        Automaton freeze() {
+            return Automaton.of(edges);
+        }
+    }
+
+    /**
+     * 여러 문자열의 접미사 오토마타 (루트에서 전이가 끝까지 이어지면 어느 문자열의 부분 문자열)
+     */
+    private static final class SuffixBuilder {
+
+        private final List<Map<Character, Integer>> edges = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private final List<Integer> links = new ArrayList<>();
+
+        SuffixBuilder() {
+            newState(0, -1);
+        }
+
+        void add(String word) {
+            int last = 0;
+            for (int i = 0; i < word.length(); i++) {
+                last = extend(last, word.charAt(i));
+            }
+        }
+
+        Automaton freeze() {
+            return Automaton.of(edges);
+        }
+
+        private int extend(int last, char c) {
+            Integer existing = edges.get(last).get(c);
+            if (existing != null) {
+                // 이미 같은 전이가 있으면 (다른 문자열에서 만든 상태) 필요할 때만 분리
+                if (lengths.get(last) + 1 == lengths.get(existing)) return existing;
+                return split(last, c, existing);
+            }
+
+            int current = newState(lengths.get(last) + 1, 0);
+            int p = last;
+            while (p != -1 && !edges.get(p).containsKey(c)) {
+                edges.get(p).put(c, current);
+                p = links.get(p);
+            }
+            if (p != -1) {
+                int q = edges.get(p).get(c);
+                links.set(current, lengths.get(p) + 1 == lengths.get(q) ? q : split(p, c, q));
+            }
+            return current;
+        }
+
+        /**
+         * q를 길이 len(p)+1인 복제 상태로 나누고 p부터 접미사 링크를 따라 전이를 옮김
+         */
+        private int split(int p, char c, int q) {
+            int clone = newState(lengths.get(p) + 1, links.get(q));
+            edges.get(clone).putAll(edges.get(q));
+            links.set(q, clone);
+            while (p != -1 && Integer.valueOf(q).equals(edges.get(p).get(c))) {
+                edges.get(p).put(c, clone);
+                p = links.get(p);
+            }
+            return clone;
+        }
+
+        private int newState(int length, int link) {
+            edges.add(new HashMap<>());
+            lengths.add(length);
+            links.add(link);
+            return edges.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.lookey.product.util;
+
+/**
+ * 상품명 비교 유틸리티
+ * 매 비교마다 정규식을 컴파일/실행하지 않도록 공백 제거를 문자 단위로 처리
+ */
+public final class ProductNameUtil {
+
+    private ProductNameUtil() {
+    }
+
+    /**
+     * 공백 제거 (replaceAll("\\s+", "")와 동일한 결과)
+     */
+    public static String stripWhitespace(String name) {
+        int length = name.length();
+        int i = 0;
+        while (i < length && !isWhitespace(name.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return name;
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(name, 0, i);
+        for (; i < length; i++) {
+            char c = name.charAt(i);
+            if (!isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 상품명 매칭 (정확한 매칭 + 대소문자 무시 + 공백 제거 후 양방향 부분 매칭)
+     */
+    public static boolean isMatch(String shelfProductName, String cartProductName) {
+        if (shelfProductName == null || cartProductName == null) {
+            return false;
+        }
+
+        // 정확한 매칭
+        if (shelfProductName.equals(cartProductName)) {
+            return true;
+        }
+
+        // 대소문자 무시 매칭
+        if (shelfProductName.equalsIgnoreCase(cartProductName)) {
+            return true;
+        }
+
+        // 부분 매칭 (공백 제거 후)
+        String normalizedShelf = stripWhitespace(shelfProductName);
+        String normalizedCart = stripWhitespace(cartProductName);
+
+        return normalizedShelf.contains(normalizedCart) || normalizedCart.contains(normalizedShelf);
+    }
+
+    /**
+     * 정규식 \s 와 같은 문자 집합 [ \t\n\x0B\f\r] (CartNameMatcher와 공유)
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.lookey.product.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 요청 속도 제한기
+ * - 초당 permitsPerSecond개씩 토큰이 채워지고 최대 burst개까지 쌓임
+ * - 토큰이 없으면 미리 예약(음수 잔량)한 뒤 차례가 올 때까지 대기하므로 여러 스레드가 순서대로 통과
+ */
+public final class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
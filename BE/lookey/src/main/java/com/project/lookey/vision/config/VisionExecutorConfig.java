@@ -0,0 +1,60 @@
+package com.project.lookey.vision.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vision API 호출 전용 스레드 풀
+ * - gRPC 블로킹 호출이 ForkJoinPool.commonPool()을 점유하지 않도록 분리
+ * - 큐가 가득 차면 대기하지 않고 즉시 거절 (RejectedExecutionException)
+ */
+@Configuration
+public class VisionExecutorConfig {
+
+    @Value("${vision.executor.core-size:8}")
+    private int coreSize;
+
+    @Value("${vision.executor.max-size:16}")
+    private int maxSize;
+
+    @Value("${vision.executor.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${vision.executor.keep-alive-seconds:60}")
+    private long keepAliveSeconds;
+
+    @Bean(name = "visionExecutor", destroyMethod = "shutdown")
+    public ExecutorService visionExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                coreSize,
+                Math.max(coreSize, maxSize),
+                keepAliveSeconds, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory("vision-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        // executor.active, executor.queued, executor.pool.size 등 게이지 + 실행/대기 시간 타이머
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "vision");
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
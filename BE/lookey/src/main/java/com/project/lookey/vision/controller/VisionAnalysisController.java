@@ -18,6 +18,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -45,11 +46,15 @@ public class VisionAnalysisController {
     public Mono<ResponseEntity<Map<String, Object>>> analyzeImage(
             @Parameter(description = "분석할 이미지 파일", required = true,
                       content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE))
-            @RequestPart("file") MultipartFile file) {
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "유사 프레임 캐시 범위를 구분하기 위한 기기 ID (선택, 없으면 캐시 미사용)")
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceId) {
 
         log.info("Vision API 이미지 분석 요청 - 파일명: {}, 크기: {} bytes",
                 file.getOriginalFilename(), file.getSize());
 
+        String cacheScope = resolveCacheScope(deviceId);
+
         return Mono.fromCallable(() -> {
             // 파일 유효성 검사
             if (file.isEmpty()) {
@@ -69,12 +74,22 @@ public class VisionAnalysisController {
 
             return file.getBytes();
         })
-        .flatMap(visionApiService::analyzeImage)
+        .flatMap(bytes -> visionApiService.analyzeImage(cacheScope, bytes))
         .map(this::createSuccessResponse)
         .onErrorResume(this::createErrorResponse);
     }
 
-    
+    /**
+     * 프레임 캐시 범위: 기기 ID, 없으면 null (캐시 미사용)
+     * (/api/v1/vision/** 는 JWT 필터를 거치지 않으므로 로그인 사용자로는 구분하지 않음)
+     * 클라이언트 IP로는 구분하지 않음 - 같은 NAT/프록시 뒤의 다른 사용자에게 사람/장애물 결과가 섞일 수 있음
+     */
+    private String resolveCacheScope(String deviceId) {
+        if (deviceId != null && !deviceId.isBlank()) {
+            return "device:" + deviceId;
+        }
+        return null;
+    }
 
     private ResponseEntity<Map<String, Object>> createSuccessResponse(Map<String, Object> analysisResult) {
         Map<String, Object> response = new HashMap<>();
@@ -99,6 +114,9 @@ public class VisionAnalysisController {
         int statusCode = 500;
         if (error instanceof IllegalArgumentException) {
             statusCode = 400;
+        } else if (error instanceof RejectedExecutionException) {
+            statusCode = 503;
+            errorResponse.put("message", "요청이 많아 잠시 후 다시 시도해주세요.");
         }
 
         return Mono.just(ResponseEntity.status(statusCode).body(errorResponse));
@@ -0,0 +1,146 @@
+package com.project.lookey.vision.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지각 해시(dHash) 기반 프레임 결과 캐시
+ * - 같은 사용자/세션에서 거의 같은 화면이 연속으로 들어오면 직전 분석 결과를 재사용
+ * - 해시 간 해밍 거리가 임계값 이하이면 같은 장면으로 간주
+ */
+public class FrameHashCache<V> {
+
+    private static final int HASH_COLUMNS = 9;
+    private static final int HASH_ROWS = 8;
+
+    private final Map<String, Deque<Entry<V>>> entriesByScope = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int hammingThreshold;
+    private final int maxEntriesPerScope;
+    private final int maxScopes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public FrameHashCache(MeterRegistry meterRegistry, String name,
+                          long ttlMillis, int hammingThreshold, int maxEntriesPerScope, int maxScopes) {
+        this.ttlMillis = ttlMillis;
+        this.hammingThreshold = hammingThreshold;
+        this.maxEntriesPerScope = maxEntriesPerScope;
+        this.maxScopes = maxScopes;
+
+        this.hits = Counter.builder(name + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(name + ".requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder(name + ".hit.ratio", this, FrameHashCache::hitRatio).register(meterRegistry);
+        Gauge.builder(name + ".scopes", entriesByScope, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 해밍 거리 임계값 이내의 최근 결과 조회
+     */
+    public Optional<V> find(String scope, long hash) {
+        Deque<Entry<V>> entries = entriesByScope.get(scope);
+        if (entries != null) {
+            long now = System.currentTimeMillis();
+            synchronized (entries) {
+                Iterator<Entry<V>> iterator = entries.iterator();
+                while (iterator.hasNext()) {
+                    Entry<V> entry = iterator.next();
+                    if (now - entry.createdAt() > ttlMillis) {
+                        iterator.remove();
+                        continue;
+                    }
+                    if (Long.bitCount(entry.hash() ^ hash) <= hammingThreshold) {
+                        hits.increment();
+                        return Optional.of(entry.value());
+                    }
+                }
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String scope, long hash, V value) {
+        if (entriesByScope.size() >= maxScopes && !entriesByScope.containsKey(scope)) {
+            evictExpired();
+            if (entriesByScope.size() >= maxScopes) {
+                return;
+            }
+        }
+
+        Deque<Entry<V>> entries = entriesByScope.computeIfAbsent(scope, key -> new ArrayDeque<>());
+        synchronized (entries) {
+            entries.addFirst(new Entry<>(hash, value, System.currentTimeMillis()));
+            while (entries.size() > maxEntriesPerScope) {
+                entries.removeLast();
+            }
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entriesByScope.entrySet().removeIf(scopeEntry -> {
+            Deque<Entry<V>> entries = scopeEntry.getValue();
+            synchronized (entries) {
+                entries.removeIf(entry -> now - entry.createdAt() > ttlMillis);
+                return entries.isEmpty();
+            }
+        });
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    /**
+     * 64비트 difference hash 계산
+     * 9x8 격자로 휘도 평균을 낸 뒤 가로로 인접한 칸의 밝기 비교 결과를 비트로 기록
+     */
+    public static long differenceHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        long[] sums = new long[HASH_COLUMNS * HASH_ROWS];
+        int[] counts = new int[HASH_COLUMNS * HASH_ROWS];
+
+        // 전체 픽셀을 다 읽지 않도록 일정 간격으로 샘플링
+        int step = Math.max(1, Math.min(width, height) / 64);
+        int[] row = new int[width];
+
+        for (int y = 0; y < height; y += step) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellY = y * HASH_ROWS / height;
+            for (int x = 0; x < width; x += step) {
+                int rgb = row[x];
+                int luminance = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+                int cell = cellY * HASH_COLUMNS + x * HASH_COLUMNS / width;
+                sums[cell] += luminance;
+                counts[cell]++;
+            }
+        }
+
+        long hash = 0L;
+        for (int y = 0; y < HASH_ROWS; y++) {
+            for (int x = 0; x < HASH_COLUMNS - 1; x++) {
+                int left = y * HASH_COLUMNS + x;
+                long leftAvg = counts[left] == 0 ? 0 : sums[left] / counts[left];
+                long rightAvg = counts[left + 1] == 0 ? 0 : sums[left + 1] / counts[left + 1];
+                hash = (hash << 1) | (leftAvg > rightAvg ? 1L : 0L);
+            }
+        }
+        return hash;
+    }
+
+    private record Entry<V>(long hash, V value, long createdAt) {
+    }
+}
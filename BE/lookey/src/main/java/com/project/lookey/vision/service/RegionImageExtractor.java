@@ -0,0 +1,155 @@
+package com.project.lookey.vision.service;
+
+import com.google.protobuf.ByteString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 프레임을 한 번만 디코딩하고 좌/중/우 영역을 메모리에서 잘라 Vision API 요청용 바이트로 변환
+ * - 큰 프레임(1080p, 4K)은 디코딩 단계에서 서브샘플링하여 픽셀 수 자체를 줄임
+ * - 인코딩 버퍼는 스레드별로 재사용하여 요청마다 새 배열을 할당하지 않음
+ */
+@Slf4j
+@Component
+public class RegionImageExtractor {
+
+    public static final String[] REGION_NAMES = {"LEFT", "CENTER", "RIGHT"};
+
+    // 재사용 버퍼가 이 크기를 넘으면 스레드에 보관하지 않음 (메모리 고정 방지)
+    private static final int MAX_RETAINED_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private static final ThreadLocal<ReusableOutputStream> BUFFERS =
+            ThreadLocal.withInitial(() -> new ReusableOutputStream(256 * 1024));
+
+    @Value("${vision.region.max-decode-width:1280}")
+    private int maxDecodeWidth;
+
+    @Value("${vision.region.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    /**
+     * 이미지 디코딩 (가로가 maxDecodeWidth를 넘으면 정수배 서브샘플링)
+     */
+    public BufferedImage decode(byte[] imageBytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsamplingStep(width);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+
+                BufferedImage image = reader.read(0, param);
+                log.debug("프레임 디코딩 완료 - 원본 너비: {}, 서브샘플링: {}, 결과: {}x{}",
+                        width, step, image.getWidth(), image.getHeight());
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩된 이미지를 3분할하여 영역별 JPEG 바이트 생성
+     * getSubimage는 원본 래스터를 공유하므로 픽셀 복사 없이 잘라냄
+     */
+    public List<RegionImage> extractRegions(BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int regionWidth = width / 3;
+
+        List<RegionImage> regions = new ArrayList<>(REGION_NAMES.length);
+        regions.add(new RegionImage(REGION_NAMES[0], encode(image.getSubimage(0, 0, regionWidth, height))));
+        regions.add(new RegionImage(REGION_NAMES[1], encode(image.getSubimage(regionWidth, 0, regionWidth, height))));
+        regions.add(new RegionImage(REGION_NAMES[2], encode(image.getSubimage(regionWidth * 2, 0, width - regionWidth * 2, height))));
+        return regions;
+    }
+
+    private int subsamplingStep(int width) {
+        if (maxDecodeWidth <= 0 || width <= maxDecodeWidth) {
+            return 1;
+        }
+        return (width + maxDecodeWidth - 1) / maxDecodeWidth;
+    }
+
+    /**
+     * 스레드별 재사용 버퍼에 JPEG 인코딩 후 ByteString으로 한 번만 복사
+     */
+    private ByteString encode(BufferedImage region) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+
+        ImageWriter writer = writers.next();
+        ReusableOutputStream buffer = BUFFERS.get();
+        buffer.reset();
+
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(buffer)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(region, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        ByteString content = buffer.toByteString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            BUFFERS.remove();
+        }
+        return content;
+    }
+
+    /**
+     * 영역 이름과 Vision API에 보낼 이미지 바이트
+     */
+    public record RegionImage(String name, ByteString content) {
+    }
+
+    /**
+     * 내부 배열을 그대로 노출하는 ByteArrayOutputStream (toByteArray 복사 생략)
+     */
+    private static class ReusableOutputStream extends ByteArrayOutputStream {
+
+        ReusableOutputStream(int size) {
+            super(size);
+        }
+
+        ByteString toByteString() {
+            return ByteString.copyFrom(buf, 0, count);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -2,26 +2,40 @@ package com.project.lookey.vision.service;
 
 import com.google.cloud.vision.v1.*;
 import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.PostConstruct;
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class VisionApiService { // Updated response format
 
+    private static final String STAGE_TIMER = "vision.analysis.stage";
+
+    private final RegionImageExtractor regionImageExtractor;
+
+    @Qualifier("visionExecutor")
+    private final ExecutorService visionExecutor;
+
+    private final MeterRegistry meterRegistry;
+
     private ImageAnnotatorClient visionClient;
 
     @Value("${google.cloud.project.id}")
@@ -30,6 +44,22 @@ public class VisionApiService { // Updated response format
     @Value("${google.cloud.vision.credentials}")
     private String credentialsPath;
 
+    // true면 3개 영역을 하나의 BatchAnnotateImagesRequest로 묶어 한 번에 호출
+    @Value("${vision.region.single-batch:false}")
+    private boolean singleBatch;
+
+    // 정지 상태에서 연속으로 들어오는 거의 같은 프레임 결과 재사용
+    @Value("${vision.frame-cache.enabled:true}")
+    private boolean frameCacheEnabled;
+
+    @Value("${vision.frame-cache.ttl-ms:3000}")
+    private long frameCacheTtlMillis;
+
+    @Value("${vision.frame-cache.hamming-threshold:6}")
+    private int frameCacheHammingThreshold;
+
+    private FrameHashCache<ParallelAnalysisResult> frameCache;
+
     // 실제 Vision API 결과 기반 향상된 키워드 맵
     private static final Set<String> ENHANCED_BEVERAGE_KEYWORDS = Set.of(
             // 실제 감지되는 음료 관련 라벨
@@ -48,6 +78,12 @@ public class VisionApiService { // Updated response format
     );
 
 
+    @PostConstruct
+    public void initializeFrameCache() {
+        this.frameCache = new FrameHashCache<>(meterRegistry, "vision.frame.cache",
+                frameCacheTtlMillis, frameCacheHammingThreshold, 4, 10_000);
+    }
+
     @PostConstruct
     public void initializeVisionClient() {
         try {
@@ -80,6 +116,14 @@ public class VisionApiService { // Updated response format
     }
 
     public Mono<Map<String, Object>> analyzeImage(byte[] imageBytes) {
+        return analyzeImage(null, imageBytes);
+    }
+
+    /**
+     * @param cacheScope 프레임 캐시 범위 (사용자/세션), null이면 캐시 미사용
+     * @param imageBytes 분석할 이미지
+     */
+    public Mono<Map<String, Object>> analyzeImage(String cacheScope, byte[] imageBytes) {
         return Mono.fromCallable(() -> {
             if (visionClient == null) {
                 throw new RuntimeException("Vision API 클라이언트가 초기화되지 않았습니다. 인증 설정을 확인해주세요.");
@@ -89,7 +133,7 @@ public class VisionApiService { // Updated response format
             long startTime = System.currentTimeMillis();
 
             // 3분할 병렬 분석 (모든 기능 포함)
-            ParallelAnalysisResult parallelResult = analyzeImageWithParallelRegions(imageBytes);
+            ParallelAnalysisResult parallelResult = analyzeImageWithParallelRegions(cacheScope, imageBytes);
 
             // 결과 분석 및 변환
             Map<String, Object> analysisResult = new HashMap<>();
@@ -106,6 +150,7 @@ public class VisionApiService { // Updated response format
             analysisResult.put("counter", parallelResult.getCounterDetection());
 
             long endTime = System.currentTimeMillis();
+            stageTimer("total").record(endTime - startTime, TimeUnit.MILLISECONDS);
             log.info("Vision API analysis completed in {}ms", endTime - startTime);
 
             return analysisResult;
@@ -162,33 +207,39 @@ public class VisionApiService { // Updated response format
     /**
      * 3분할 병렬 분석 (방향, 사람, 카테고리)
      */
-    private ParallelAnalysisResult analyzeImageWithParallelRegions(byte[] imageBytes) {
+    private ParallelAnalysisResult analyzeImageWithParallelRegions(String cacheScope, byte[] imageBytes) {
         log.info("=== 3분할 병렬 분석 시작 ===");
 
         try {
-            // 이미지를 BufferedImage로 변환
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(imageBytes));
-            int width = originalImage.getWidth();
-            int height = originalImage.getHeight();
-
-            // 3분할 영역 생성
-            int regionWidth = width / 3;
-            BufferedImage leftRegion = originalImage.getSubimage(0, 0, regionWidth, height);
-            BufferedImage centerRegion = originalImage.getSubimage(regionWidth, 0, regionWidth, height);
-            BufferedImage rightRegion = originalImage.getSubimage(regionWidth * 2, 0, width - regionWidth * 2, height);
+            // 한 번만 디코딩 (큰 프레임은 서브샘플링) 후 메모리에서 3분할
+            long stageStart = System.nanoTime();
+            BufferedImage frame = regionImageExtractor.decode(imageBytes);
+            stageStart = recordStage("decode", stageStart);
+
+            // 직전 프레임과 거의 같으면 캐시된 결과 반환 (Vision API 호출 생략)
+            boolean cacheable = frameCacheEnabled && cacheScope != null;
+            long frameHash = cacheable ? FrameHashCache.differenceHash(frame) : 0L;
+            if (cacheable) {
+                Optional<ParallelAnalysisResult> cached = frameCache.find(cacheScope, frameHash);
+                if (cached.isPresent()) {
+                    log.info("유사 프레임 캐시 적중 - scope: {}", cacheScope);
+                    return cached.get();
+                }
+            }
 
+            List<RegionImageExtractor.RegionImage> regions = regionImageExtractor.extractRegions(frame);
+            stageStart = recordStage("encode", stageStart);
 
-            // 3개 영역 병렬 분석 (Object + Label Detection)
-            CompletableFuture<RegionResult> leftAnalysis = analyzeRegionWithObjectsAsync(leftRegion, "LEFT");
-            CompletableFuture<RegionResult> centerAnalysis = analyzeRegionWithObjectsAsync(centerRegion, "CENTER");
-            CompletableFuture<RegionResult> rightAnalysis = analyzeRegionWithObjectsAsync(rightRegion, "RIGHT");
+            // 3개 영역 분석 (Object + Label Detection)
+            List<RegionResult> regionResults = singleBatch
+                    ? analyzeRegionsInSingleBatch(regions)
+                    : analyzeRegionsInParallel(regions);
 
-            // 모든 분석 완료 대기
-            CompletableFuture.allOf(leftAnalysis, centerAnalysis, rightAnalysis).join();
+            recordStage("annotate", stageStart);
 
-            RegionResult leftResult = leftAnalysis.join();
-            RegionResult centerResult = centerAnalysis.join();
-            RegionResult rightResult = rightAnalysis.join();
+            RegionResult leftResult = regionResults.get(0);
+            RegionResult centerResult = regionResults.get(1);
+            RegionResult rightResult = regionResults.get(2);
 
             // 방향 분석
             Map<String, Boolean> directions = new HashMap<>();
@@ -220,8 +271,18 @@ public class VisionApiService { // Updated response format
             boolean counterDetection = detectCounterInRegions(leftResult, centerResult, rightResult);
 
 
-            return new ParallelAnalysisResult(directions, peopleByRegion, obstaclesByRegion, centerCategory, counterDetection);
+            ParallelAnalysisResult result = new ParallelAnalysisResult(directions, peopleByRegion, obstaclesByRegion, centerCategory, counterDetection);
+            // 실패한 영역이 있으면 빈 결과가 섞여 있으므로 캐시하지 않음 (다음 프레임에서 다시 호출)
+            boolean failed = leftResult.isFailed() || centerResult.isFailed() || rightResult.isFailed();
+            if (cacheable && !failed) {
+                frameCache.put(cacheScope, frameHash, result);
+            }
+            return result;
 
+        } catch (RejectedExecutionException e) {
+            // 전용 풀 포화 - 기본값 대신 즉시 거절하여 클라이언트가 재시도하도록 함
+            log.warn("Vision 작업 큐 포화로 요청 거절");
+            throw e;
         } catch (Exception e) {
             log.error("3분할 분석 실패, 기본값 반환", e);
             // 안전한 기본값 반환
@@ -244,44 +305,77 @@ public class VisionApiService { // Updated response format
         }
     }
 
+    /**
+     * 영역별 개별 호출을 병렬로 수행
+     */
+    private List<RegionResult> analyzeRegionsInParallel(List<RegionImageExtractor.RegionImage> regions) {
+        List<CompletableFuture<RegionResult>> futures = regions.stream()
+                .map(this::analyzeRegionWithObjectsAsync)
+                .collect(Collectors.toList());
+
+        // 모든 분석 완료 대기
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 3개 영역을 하나의 배치 요청으로 분석 (프레임당 1회 왕복)
+     * 응답 순서는 요청 순서와 같으므로 영역 순서대로 결과를 매핑
+     */
+    private List<RegionResult> analyzeRegionsInSingleBatch(List<RegionImageExtractor.RegionImage> regions) {
+        List<AnnotateImageRequest> requests = regions.stream()
+                .map(region -> buildRegionRequest(region.content()))
+                .collect(Collectors.toList());
+
+        List<RegionResult> results = new ArrayList<>(regions.size());
+        try {
+            BatchAnnotateImagesResponse response = CompletableFuture
+                    .supplyAsync(() -> visionClient.batchAnnotateImages(requests), visionExecutor)
+                    .join();
+
+            for (int i = 0; i < regions.size(); i++) {
+                AnnotateImageResponse imageResponse = response.getResponses(i);
+                if (imageResponse.hasError()) {
+                    log.error("{} 영역 분석 실패: {}", regions.get(i).name(), imageResponse.getError().getMessage());
+                    results.add(RegionResult.failed());
+                    continue;
+                }
+                results.add(new RegionResult(
+                        imageResponse.getLocalizedObjectAnnotationsList(),
+                        imageResponse.getLabelAnnotationsList()
+                ));
+            }
+        } catch (RejectedExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("배치 영역 분석 실패", e instanceof CompletionException ? e.getCause() : e);
+            results.clear();
+            for (int i = 0; i < regions.size(); i++) {
+                results.add(RegionResult.failed());
+            }
+        }
+        return results;
+    }
+
     /**
      * 영역 비동기 분석 (Object + Label Detection)
      */
-    private CompletableFuture<RegionResult> analyzeRegionWithObjectsAsync(BufferedImage regionImage, String regionName) {
+    private CompletableFuture<RegionResult> analyzeRegionWithObjectsAsync(RegionImageExtractor.RegionImage region) {
         return CompletableFuture.supplyAsync(() -> {
             try {
 
-                // BufferedImage를 byte[]로 변환
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                ImageIO.write(regionImage, "jpeg", baos);
-                byte[] regionBytes = baos.toByteArray();
-
                 // Vision API 호출 (Object + Label Detection)
-                ByteString imgBytes = ByteString.copyFrom(regionBytes);
-                Image img = Image.newBuilder().setContent(imgBytes).build();
-
-                // Object Detection Feature
-                Feature objectFeature = Feature.newBuilder()
-                        .setType(Feature.Type.OBJECT_LOCALIZATION)
-                        .setMaxResults(10)
-                        .build();
-
-                // Label Detection Feature
-                Feature labelFeature = Feature.newBuilder()
-                        .setType(Feature.Type.LABEL_DETECTION)
-                        .setMaxResults(10)
-                        .build();
-
-                AnnotateImageRequest request = AnnotateImageRequest.newBuilder()
-                        .addFeatures(objectFeature)
-                        .addFeatures(labelFeature)
-                        .setImage(img)
-                        .build();
-
                 BatchAnnotateImagesResponse response = visionClient.batchAnnotateImages(
-                        List.of(request));
+                        List.of(buildRegionRequest(region.content())));
 
                 AnnotateImageResponse imageResponse = response.getResponsesList().get(0);
+                if (imageResponse.hasError()) {
+                    log.error("{} 영역 분석 실패: {}", region.name(), imageResponse.getError().getMessage());
+                    return RegionResult.failed();
+                }
                 List<LocalizedObjectAnnotation> objects = imageResponse.getLocalizedObjectAnnotationsList();
                 List<EntityAnnotation> labels = imageResponse.getLabelAnnotationsList();
 
@@ -289,10 +383,50 @@ public class VisionApiService { // Updated response format
                 return new RegionResult(objects, labels);
 
             } catch (Exception e) {
-                log.error("{} 영역 분석 실패", regionName, e);
-                return new RegionResult(Collections.emptyList(), Collections.emptyList());
+                log.error("{} 영역 분석 실패", region.name(), e);
+                return RegionResult.failed();
             }
-        });
+        }, visionExecutor);
+    }
+
+    /**
+     * 단계별 소요 시간 기록 후 다음 단계 시작 시각 반환
+     */
+    private long recordStage(String stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimer(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(STAGE_TIMER)
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 영역 이미지 요청 생성 (Object + Label Detection)
+     */
+    private AnnotateImageRequest buildRegionRequest(ByteString content) {
+        Image img = Image.newBuilder().setContent(content).build();
+
+        // Object Detection Feature
+        Feature objectFeature = Feature.newBuilder()
+                .setType(Feature.Type.OBJECT_LOCALIZATION)
+                .setMaxResults(10)
+                .build();
+
+        // Label Detection Feature
+        Feature labelFeature = Feature.newBuilder()
+                .setType(Feature.Type.LABEL_DETECTION)
+                .setMaxResults(10)
+                .build();
+
+        return AnnotateImageRequest.newBuilder()
+                .addFeatures(objectFeature)
+                .addFeatures(labelFeature)
+                .setImage(img)
+                .build();
     }
 
     /**
@@ -538,13 +672,25 @@ public class VisionApiService { // Updated response format
     private static class RegionResult {
         private final List<LocalizedObjectAnnotation> objects;
         private final List<EntityAnnotation> labels;
+        // Vision 호출이 실패해 빈 결과로 대체된 경우
+        private final boolean failed;
 
         public RegionResult(List<LocalizedObjectAnnotation> objects, List<EntityAnnotation> labels) {
+            this(objects, labels, false);
+        }
+
+        private RegionResult(List<LocalizedObjectAnnotation> objects, List<EntityAnnotation> labels, boolean failed) {
             this.objects = objects;
             this.labels = labels;
+            this.failed = failed;
+        }
+
+        static RegionResult failed() {
+            return new RegionResult(Collections.emptyList(), Collections.emptyList(), true);
         }
 
         public List<LocalizedObjectAnnotation> getObjects() { return objects; }
         public List<EntityAnnotation> getLabels() { return labels; }
+        public boolean isFailed() { return failed; }
     }
 }
\ No newline at end of file
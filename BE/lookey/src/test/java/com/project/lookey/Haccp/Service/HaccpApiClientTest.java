@@ -0,0 +1,107 @@
+package com.project.lookey.Haccp.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.lookey.Haccp.Dto.ApiItem;
+import com.project.lookey.Haccp.Dto.HaccpPage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HaccpApiClientTest {
+
+    private final HaccpApiClient client = new HaccpApiClient(null, new ObjectMapper(), 1000, 1000);
+
+    @Test
+    void parsesTotalCountSentAsString() throws IOException {
+        HaccpPage page = client.parsePage(3, json("""
+                {"header":{"resultCode":"OK","resultMessage":"NORMAL SERVICE"},
+                 "body":{"pageNo":"3","totalCount":"1234","numOfRows":"2",
+                         "items":[{"item":{"prdlstNm":"칠성사이다","allergy":"없음","rnum":"5"}},
+                                  {"item":{"prdlstNm":"초코우유","allergy":"우유, 대두","unknownField":{"a":[1,2]}}}]}}
+                """));
+
+        assertEquals(3, page.pageNo());
+        assertEquals(1234, page.totalCount());
+        List<ApiItem> items = page.items();
+        assertEquals(2, items.size());
+        assertEquals("칠성사이다", items.get(0).getPrdlstNm());
+        assertEquals("5", items.get(0).getRnum());
+        assertEquals("우유, 대두", items.get(1).getAllergy());
+    }
+
+    @Test
+    void parsesNumericTotalCountAndIgnoresFieldOrder() throws IOException {
+        HaccpPage page = client.parsePage(1, json("""
+                {"body":{"items":[{"item":{"prdlstNm":"콜라"}}],"totalCount":7},"header":{"resultCode":"OK"}}
+                """));
+
+        assertEquals(7, page.totalCount());
+        assertEquals(1, page.items().size());
+    }
+
+    @Test
+    void treatsEmptyStringItemsAsNoItems() throws IOException {
+        HaccpPage page = client.parsePage(9, json("""
+                {"header":{"resultCode":"OK"},"body":{"totalCount":"0","items":""}}
+                """));
+
+        assertEquals(0, page.totalCount());
+        assertTrue(page.items().isEmpty());
+    }
+
+    @Test
+    void rejectsNonObjectResponse() {
+        assertThrows(IOException.class, () -> client.parsePage(1, json("[]")));
+    }
+
+    @Test
+    void rejectsErrorResultCode() {
+        IOException error = assertThrows(IOException.class, () -> client.parsePage(1, json("""
+                {"header":{"resultCode":"22","resultMessage":"LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"},
+                 "body":{"totalCount":"0","items":""}}
+                """)));
+        assertTrue(error.getMessage().contains("22"), error.getMessage());
+    }
+
+    @Test
+    void rejectsResponseWithoutHeaderOrBody() {
+        assertThrows(IOException.class, () -> client.parsePage(1, json("""
+                {"header":{"resultCode":"OK"}}
+                """)));
+        assertThrows(IOException.class, () -> client.parsePage(1, json("""
+                {"body":{"totalCount":"3","items":[]}}
+                """)));
+    }
+
+    @Test
+    void fetchesPageFromStubServer() throws Exception {
+        try (HaccpStubServer server = new HaccpStubServer().page(2, 11, "바나나우유", "딸기우유")) {
+            HaccpPage page = server.client().fetchPage(2, 5);
+
+            assertEquals(2, page.pageNo());
+            assertEquals(11, page.totalCount());
+            assertEquals(List.of("바나나우유", "딸기우유"), page.items().stream().map(ApiItem::getPrdlstNm).toList());
+            assertEquals(List.of(2), server.requestedPages());
+        }
+    }
+
+    @Test
+    void failsOnNonOkStatus() throws Exception {
+        try (HaccpStubServer server = new HaccpStubServer()) {
+            server.fail(1);
+            assertThrows(IOException.class, () -> server.client().fetchPage(1, 5));
+        }
+    }
+
+    private static InputStream json(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
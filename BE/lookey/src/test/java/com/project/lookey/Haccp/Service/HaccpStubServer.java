@@ -0,0 +1,103 @@
+package com.project.lookey.Haccp.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.lookey.Haccp.Config.ApiConfig;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HACCP API 로컬 스텁 서버 (페이지 번호별 응답 본문, 실패 페이지는 HTTP 500)
+ */
+class HaccpStubServer implements AutoCloseable {
+
+    private static final Pattern PAGE_NO = Pattern.compile("(?:^|&)pageNo=(\\d+)");
+
+    private final HttpServer server;
+    private final Map<Integer, String> bodies = new ConcurrentHashMap<>();
+    private final Set<Integer> failingPages = ConcurrentHashMap.newKeySet();
+    private final List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+
+    HaccpStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/haccp", exchange -> {
+            Matcher matcher = PAGE_NO.matcher(exchange.getRequestURI().getRawQuery());
+            int pageNo = matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+            requestedPages.add(pageNo);
+
+            String body = failingPages.contains(pageNo) ? null : bodies.get(pageNo);
+            byte[] bytes = (body != null ? body : "{\"error\":\"stub\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(body != null ? 200 : 500, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * totalCount는 실제 API처럼 문자열로 응답
+     */
+    HaccpStubServer page(int pageNo, int totalCount, String... productNames) {
+        StringBuilder items = new StringBuilder();
+        for (String name : productNames) {
+            if (!items.isEmpty()) items.append(',');
+            items.append("{\"item\":{\"prdlstNm\":\"").append(name).append("\",\"allergy\":\"대두\"}}");
+        }
+        bodies.put(pageNo, "{\"header\":{\"resultCode\":\"OK\"},\"body\":{\"totalCount\":\"" + totalCount
+                + "\",\"pageNo\":\"" + pageNo + "\",\"items\":[" + items + "]}}");
+        return this;
+    }
+
+    /**
+     * HTTP 200이지만 header에 오류 코드만 있는 응답 (호출 제한 등)
+     */
+    HaccpStubServer error(int pageNo, String resultCode) {
+        bodies.put(pageNo, "{\"header\":{\"resultCode\":\"" + resultCode
+                + "\",\"resultMessage\":\"LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR\"}}");
+        return this;
+    }
+
+    void fail(int pageNo) {
+        failingPages.add(pageNo);
+    }
+
+    void recover(int pageNo) {
+        failingPages.remove(pageNo);
+    }
+
+    List<Integer> requestedPages() {
+        return requestedPages;
+    }
+
+    HaccpApiClient client() {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/haccp";
+        ApiConfig apiConfig = new ApiConfig() {
+            @Override
+            public String getApiUrl() {
+                return url;
+            }
+
+            @Override
+            public String getApiKey() {
+                return "test-key";
+            }
+        };
+        return new HaccpApiClient(apiConfig, new ObjectMapper(), 1000, 5000);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
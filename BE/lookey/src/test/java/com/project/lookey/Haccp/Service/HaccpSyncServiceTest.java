@@ -0,0 +1,196 @@
+package com.project.lookey.Haccp.Service;
+
+import com.project.lookey.Haccp.Dto.HaccpSyncResult;
+import com.project.lookey.common.job.JobContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로컬 스텁 서버를 상대로 전체 동기화의 이어하기/실패 처리/조회 수 제한 확인
+ */
+class HaccpSyncServiceTest {
+
+    private static final int ROWS = 2;
+    private static final int CONCURRENCY = 2;
+
+    private HaccpStubServer server;
+    private InMemoryCheckpoint checkpoint;
+    private ProductAllergyService.MatchSession session;
+    private HaccpSyncService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new HaccpStubServer();
+        checkpoint = new InMemoryCheckpoint();
+        session = mock(ProductAllergyService.MatchSession.class);
+        ProductAllergyService productAllergyService = mock(ProductAllergyService.class);
+        given(productAllergyService.newMatchSession()).willReturn(session);
+
+        service = new HaccpSyncService(server.client(), checkpoint, productAllergyService);
+        ReflectionTestUtils.setField(service, "concurrency", CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void skipsCompletedPagesAndKeepsCheckpointWhenAPageFails() throws Exception {
+        // totalCount 9, 페이지 크기 2 → 5페이지
+        for (int pageNo = 1; pageNo <= 5; pageNo++) {
+            server.page(pageNo, 9, "상품" + pageNo);
+        }
+        server.fail(3);
+        checkpoint.markCompleted(ROWS, 2);
+
+        HaccpSyncResult first = service.syncAll(ROWS, false, mock(JobContext.class));
+
+        assertEquals(9, first.totalCount());
+        assertEquals(5, first.totalPages());
+        assertEquals(3, first.processedPages());
+        assertEquals(1, first.skippedPages());
+        assertEquals(List.of(3), first.failedPages());
+        assertFalse(server.requestedPages().contains(2), "완료된 페이지는 다시 조회하지 않음");
+        assertEquals(Set.of(1, 2, 4, 5), checkpoint.completedPages(ROWS));
+
+        // 이어서 실행: 첫 페이지(전체 개수 확인)와 실패했던 페이지만 조회
+        server.recover(3);
+        server.requestedPages().clear();
+
+        HaccpSyncResult second = service.syncAll(ROWS, false, mock(JobContext.class));
+
+        assertEquals(1, second.processedPages());
+        assertEquals(4, second.skippedPages());
+        assertTrue(second.failedPages().isEmpty());
+        assertEquals(Set.of(1, 3), new HashSet<>(server.requestedPages()));
+        assertTrue(checkpoint.completedPages(ROWS).isEmpty(), "모두 성공하면 체크포인트 삭제");
+    }
+
+    @Test
+    void keepsPageWithErrorResultCodePending() throws Exception {
+        server.page(1, 6, "상품1").error(2, "22").page(3, 6, "상품3");
+
+        HaccpSyncResult first = service.syncAll(ROWS, false, mock(JobContext.class));
+
+        // HTTP 200 오류 응답은 빈 페이지가 아니라 실패로 처리되어 체크포인트에 남지 않음
+        assertEquals(List.of(2), first.failedPages());
+        assertEquals(Set.of(1, 3), checkpoint.completedPages(ROWS));
+
+        server.page(2, 6, "상품2");
+        server.requestedPages().clear();
+
+        HaccpSyncResult second = service.syncAll(ROWS, false, mock(JobContext.class));
+
+        assertEquals(1, second.processedPages());
+        assertTrue(second.failedPages().isEmpty());
+        assertEquals(Set.of(1, 2), new HashSet<>(server.requestedPages()));
+    }
+
+    @Test
+    void restartIgnoresCheckpoint() throws Exception {
+        server.page(1, 3, "상품1").page(2, 3, "상품2");
+        checkpoint.markCompleted(ROWS, 1);
+        checkpoint.markCompleted(ROWS, 2);
+
+        HaccpSyncResult result = service.syncAll(ROWS, true, mock(JobContext.class));
+
+        assertEquals(2, result.processedPages());
+        assertEquals(0, result.skippedPages());
+    }
+
+    @Test
+    void failsWhenFirstPageCannotBeFetched() {
+        server.fail(1);
+
+        assertThrows(ResponseStatusException.class, () -> service.syncAll(ROWS, false, mock(JobContext.class)));
+    }
+
+    @Test
+    void limitsPagesFetchedAheadOfTheWriter() throws Exception {
+        int totalPages = 40;
+        for (int pageNo = 1; pageNo <= totalPages; pageNo++) {
+            server.page(pageNo, totalPages * ROWS, "상품" + pageNo);
+        }
+
+        // 두 번째로 저장하는 페이지(나머지 페이지 중 첫 번째)에서 저장이 멈춘 동안 조회된 페이지 수 확인
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger applied = new AtomicInteger();
+        willAnswer(invocation -> {
+            if (applied.incrementAndGet() == 2) {
+                blocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).given(session).apply(anyList());
+
+        Thread writer = new Thread(() -> {
+            try {
+                service.syncAll(ROWS, false, mock(JobContext.class));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        int fetchedWhileBlocked = server.requestedPages().size();
+        release.countDown();
+        writer.join(10_000);
+
+        // 첫 페이지 + 꺼낸 페이지 1개 + 대기 중인 조회 (concurrency * 2)
+        assertTrue(fetchedWhileBlocked <= 2 + CONCURRENCY * 2, "조회된 페이지: " + fetchedWhileBlocked);
+        assertEquals(totalPages, server.requestedPages().size());
+        assertEquals(totalPages, applied.get());
+    }
+
+    /**
+     * Redis 대신 메모리에 완료 페이지를 기록하는 체크포인트
+     */
+    private static class InMemoryCheckpoint extends HaccpSyncCheckpoint {
+
+        private final Set<Integer> pages = ConcurrentHashMap.newKeySet();
+
+        InMemoryCheckpoint() {
+            super(null);
+        }
+
+        @Override
+        public Set<Integer> completedPages(int numOfRows) {
+            return new HashSet<>(pages);
+        }
+
+        @Override
+        public void markCompleted(int numOfRows, int pageNo) {
+            pages.add(pageNo);
+        }
+
+        @Override
+        public void clear(int numOfRows) {
+            pages.clear();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.lookey.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 띠(band) + 조기 종료 레벤슈타인을 전체 DP 계산과 비교
+ */
+class SimilarityUtilTest {
+
+    private static final char[] ASCII = "abcde xyz".toCharArray();
+    // 유사도 계산용 완성형 음절 (prepare가 자모로 분해)
+    private static final char[] HANGUL_SYLLABLES = "가각간나낙다닭콜라카코 ".toCharArray();
+    // 완성형 음절 + 분해 결과에 나오는 자모 (분해 전/후 문자열 모두 비교)
+    private static final char[] HANGUL = "가각간나낙다닭콜라카코ᄀ까ᅢᆨ".toCharArray();
+
+    @Test
+    void distanceMatchesFullDpAroundBand() {
+        Random random = new Random(20260417L);
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            char[] alphabet = iteration % 2 == 0 ? ASCII : HANGUL;
+            char[] a = randomText(random, alphabet, random.nextInt(25));
+            char[] b = mutate(random, alphabet, a, random.nextInt(8));
+            int expected = fullDistance(a, b);
+
+            // 실제 거리 주변의 허용 거리 (띠 경계 바로 안/밖)
+            for (int maxDistance = Math.max(0, expected - 2); maxDistance <= expected + 2; maxDistance++) {
+                int banded = SimilarityUtil.levenshteinDistance(a, b, maxDistance);
+                int bound = Math.min(maxDistance, Math.max(a.length, b.length));
+                int want = expected <= bound ? expected : bound + 1;
+                assertEquals(want, banded, describe(a, b, maxDistance));
+            }
+            assertEquals(expected, SimilarityUtil.levenshteinDistance(a, b, Integer.MAX_VALUE), describe(a, b, -1));
+        }
+    }
+
+    @Test
+    void distanceIsSymmetricAndHandlesEmptyInput() {
+        char[] empty = new char[0];
+        char[] word = "코카콜라".toCharArray();
+
+        assertEquals(0, SimilarityUtil.levenshteinDistance(empty, empty, 0));
+        assertEquals(4, SimilarityUtil.levenshteinDistance(empty, word, 4));
+        assertEquals(4, SimilarityUtil.levenshteinDistance(word, empty, 4));
+        assertEquals(4, SimilarityUtil.levenshteinDistance(word, empty, 3));
+        assertEquals(2, SimilarityUtil.levenshteinDistance("kitten".toCharArray(), "sitting".toCharArray(), 1));
+        assertEquals(3, SimilarityUtil.levenshteinDistance("sitting".toCharArray(), "kitten".toCharArray(), 3));
+    }
+
+    @Test
+    void boundedSimilarityAgreesWithExactSimilarityAtThreshold() {
+        Random random = new Random(7L);
+        double[] minimums = {0.3, 0.45, 0.5, 0.55, 0.7};
+
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            char[] alphabet = iteration % 2 == 0 ? ASCII : HANGUL_SYLLABLES;
+            char[] a = randomText(random, alphabet, 1 + random.nextInt(12));
+            char[] b = mutate(random, alphabet, a, random.nextInt(6));
+            SimilarityUtil.Prepared query = SimilarityUtil.prepare(new String(a));
+            SimilarityUtil.Prepared target = SimilarityUtil.prepare(new String(b));
+
+            double exact = SimilarityUtil.calculateSimilarity(query, target);
+            assertEquals(exact, SimilarityUtil.calculateSimilarity(new String(a), new String(b)));
+
+            // 하한 이상이면 정확한 값, 미만이면 하한 미만의 값
+            for (double minimum : minimums) {
+                double bounded = SimilarityUtil.calculateSimilarity(query, target, minimum);
+                String message = new String(a) + " / " + new String(b) + " min=" + minimum;
+                if (exact >= minimum) {
+                    assertEquals(exact, bounded, message);
+                } else {
+                    assertTrue(bounded < minimum, message + " bounded=" + bounded);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기준 구현: 전체 (n+1) x (m+1) DP
+     */
+    private static int fullDistance(char[] a, char[] b) {
+        int[][] dp = new int[a.length + 1][b.length + 1];
+        for (int i = 0; i <= a.length; i++) dp[i][0] = i;
+        for (int j = 0; j <= b.length; j++) dp[0][j] = j;
+        for (int i = 1; i <= a.length; i++) {
+            for (int j = 1; j <= b.length; j++) {
+                int substitution = dp[i - 1][j - 1] + (a[i - 1] == b[j - 1] ? 0 : 1);
+                dp[i][j] = Math.min(substitution, Math.min(dp[i - 1][j], dp[i][j - 1]) + 1);
+            }
+        }
+        return dp[a.length][b.length];
+    }
+
+    private static char[] randomText(Random random, char[] alphabet, int length) {
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return text;
+    }
+
+    /**
+     * 삽입/삭제/치환을 edits번 적용 (임계값 근처의 거리를 자주 만들기 위함)
+     */
+    private static char[] mutate(Random random, char[] alphabet, char[] source, int edits) {
+        StringBuilder text = new StringBuilder(new String(source));
+        for (int edit = 0; edit < edits; edit++) {
+            int operation = random.nextInt(3);
+            char c = alphabet[random.nextInt(alphabet.length)];
+            if (operation == 0 || text.length() == 0) {
+                text.insert(random.nextInt(text.length() + 1), c);
+            } else if (operation == 1) {
+                text.deleteCharAt(random.nextInt(text.length()));
+            } else {
+                text.setCharAt(random.nextInt(text.length()), c);
+            }
+        }
+        return text.toString().toCharArray();
+    }
+
+    private static String describe(char[] a, char[] b, int maxDistance) {
+        return "'" + new String(a) + "' / '" + new String(b) + "' maxDistance=" + maxDistance;
+    }
+}
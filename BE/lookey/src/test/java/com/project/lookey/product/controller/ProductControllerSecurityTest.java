@@ -0,0 +1,128 @@
+package com.project.lookey.product.controller;
+
+import com.project.lookey.OAuth.Service.jwt.JwtProvider;
+import com.project.lookey.OAuth.Service.jwt.UserPrincipalResolver;
+import com.project.lookey.OAuth.Service.oauth.CustomOAuth2User;
+import com.project.lookey.OAuth.Service.oauth.CustomOAuth2UserService;
+import com.project.lookey.cart.dto.CartSnapshot;
+import com.project.lookey.cart.service.CartSnapshotService;
+import com.project.lookey.common.job.JobService;
+import com.project.lookey.config.SecurityConfig;
+import com.project.lookey.product.dto.ProductDirectionResponse;
+import com.project.lookey.product.service.AiSearchService;
+import com.project.lookey.product.service.PyonyCrawler;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockPart;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Mono를 반환하는 상품 API가 인증된 요청에서 ASYNC 디스패치까지 완료되는지 확인
+ * (JWT 필터는 최초 디스패치에서만 실행되므로 ASYNC 디스패치에서 다시 인가되면 401)
+ */
+@WebMvcTest(ProductController.class)
+@Import(SecurityConfig.class)
+class ProductControllerSecurityTest {
+
+    private static final String TOKEN = "access-token";
+    private static final Integer USER_ID = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PyonyCrawler crawler;
+    @MockitoBean
+    private CartSnapshotService cartSnapshotService;
+    @MockitoBean
+    private AiSearchService aiSearchService;
+    @MockitoBean
+    private JobService jobService;
+    @MockitoBean
+    private JwtProvider jwtProvider;
+    @MockitoBean
+    private UserPrincipalResolver userPrincipalResolver;
+    @MockitoBean
+    private CustomOAuth2UserService customOAuth2UserService;
+    @MockitoBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @BeforeEach
+    void setUp() {
+        Claims claims = mock(Claims.class);
+        given(jwtProvider.parseClaims(TOKEN)).willReturn(claims);
+        given(userPrincipalResolver.resolve(claims)).willReturn(new CustomOAuth2User(USER_ID, Map.of(), null));
+        given(cartSnapshotService.get(USER_ID)).willReturn(CartSnapshot.EMPTY);
+    }
+
+    @Test
+    void searchShelfCompletesOnAsyncDispatch() throws Exception {
+        given(aiSearchService.findMatchedProducts(any(), eq(CartSnapshot.EMPTY), eq(USER_ID)))
+                .willReturn(Mono.just(List.of("코카콜라")));
+
+        MvcResult started = mockMvc.perform(multipart("/api/v1/product/search")
+                        .file(jpeg("file"))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.count").value(1))
+                .andExpect(jsonPath("$.result.matched_names[0]").value("코카콜라"));
+    }
+
+    @Test
+    void findProductDirectionCompletesOnAsyncDispatch() throws Exception {
+        ProductDirectionResponse.Result result = new ProductDirectionResponse.Result(
+                "DIRECTION", new ProductDirectionResponse.Target("코카콜라", "LEFT"), null);
+        given(aiSearchService.findProductDirection(any(), eq("코카콜라"), eq(USER_ID)))
+                .willReturn(Mono.just(result));
+
+        MvcResult started = mockMvc.perform(multipart("/api/v1/product/search/location")
+                        .file(jpeg("current_frame"))
+                        .part(new MockPart("product_name", "코카콜라".getBytes(StandardCharsets.UTF_8)))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.caseType").value("DIRECTION"))
+                .andExpect(jsonPath("$.result.target.directionBucket").value("LEFT"));
+    }
+
+    @Test
+    void searchShelfWithoutTokenIsRejected() throws Exception {
+        mockMvc.perform(multipart("/api/v1/product/search").file(jpeg("file")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static MockMultipartFile jpeg(String name) {
+        return new MockMultipartFile(name, "frame.jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8});
+    }
+}
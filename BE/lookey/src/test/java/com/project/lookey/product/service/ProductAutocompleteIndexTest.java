@@ -0,0 +1,118 @@
+package com.project.lookey.product.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 초성 검색, 마지막 글자 받침 분리/겹받침 확장, 개수 제한/중복 제거 확인
+ */
+class ProductAutocompleteIndexTest {
+
+    private ProductAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductAutocompleteIndex();
+        refresh("코카콜라", "코라떼", "닭가슴살", "달걀", "달콤우유", "다람쥐밤", "칠성 사이다", "Coke Zero", "앉은뱅이밀");
+    }
+
+    @Test
+    void choseongQueryFallsBackToInfix() {
+        // 코카콜라의 초성 ㅋㅋㅋㄹ → 두 번째 글자부터 ㅋㅋㄹ
+        assertEquals(List.of("코카콜라"), names("ㅋㅋㄹ", 10));
+        assertEquals(List.of("칠성 사이다"), names("ㅊㅅ", 10));
+        assertEquals(List.of("칠성 사이다"), names("ㅅㅇㄷ", 10));
+    }
+
+    @Test
+    void choseongPrefixMatchesComeBeforeInfixMatches() {
+        refresh("콜라", "코카콜라", "칸쵸");
+
+        // 앞부분 일치(콜라) 다음에 중간 일치(코카콜라), 칸쵸(ㅋㅊ)는 제외
+        assertEquals(List.of("콜라", "코카콜라"), names("ㅋㄹ", 10));
+    }
+
+    @Test
+    void lastSyllableMayContinueAsCompoundFinal() {
+        // 달 + ㄱ → 닭
+        List<String> names = names("달", 10);
+        assertTrue(names.contains("닭가슴살"), names::toString);
+        assertTrue(names.contains("달콤우유"), names::toString);
+
+        // 안 + ㅈ → 앉
+        assertEquals(List.of("앉은뱅이밀"), names("안", 10));
+    }
+
+    @Test
+    void lastFinalMayBeNextInitial() {
+        // 콜 = 코 + ㄹ → 코라떼 / 코카콜라는 제외
+        assertEquals(List.of("코라떼"), names("콜", 10));
+        // 달 = 다 + ㄹ → 다람쥐밤
+        assertTrue(names("달", 10).contains("다람쥐밤"));
+        // 닭 = 달 + ㄱ → 닭가슴살, 달걀 (달콤우유는 제외)
+        assertEquals(List.of("닭가슴살", "달걀"), names("닭", 10));
+    }
+
+    @Test
+    void mixedSyllableAndJamoInput() {
+        assertEquals(List.of("코카콜라"), names("코ㅋ", 10));
+        assertEquals(List.of("코카콜라"), names("코카ㅋ", 10));
+        assertEquals(List.of("코라떼"), names("코ㄹ", 10));
+        // 글자로 조합되지 않은 자음 + 모음 (ㅋ + ㅗ = 코)
+        assertEquals(List.of("코라떼", "코카콜라"), names("ㅋㅗ", 10));
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        assertEquals(List.of("Coke Zero"), names("coke z", 10));
+        assertEquals(List.of("Coke Zero"), names("COKEZ", 10));
+        assertEquals(List.of("칠성 사이다"), names("칠성사", 10));
+        assertEquals(List.of("칠성 사이다"), names(" 칠 성 ", 10));
+    }
+
+    @Test
+    void limitsAndDeduplicatesResults() {
+        refresh("코카콜라", "코코넛", "코다리", "커피");
+
+        // 코카콜라는 초성 앞부분(ㅋㅋ)과 중간(ㅋㅋㄹ의 두 번째부터)에 모두 일치하지만 한 번만
+        assertEquals(List.of("코코넛", "코카콜라"), names("ㅋㅋ", 10));
+        assertEquals(3, names("코", 10).size());
+        assertEquals(2, names("코", 2).size());
+        assertEquals(1, names("ㅋ", 1).size());
+        assertTrue(names("코", 0).isEmpty());
+        assertTrue(names("   ", 10).isEmpty());
+        assertTrue(index.complete(null, 10).isEmpty());
+    }
+
+    @Test
+    void returnsProductIdWithName() {
+        List<ProductAutocompleteIndex.Suggestion> suggestions = index.complete("코라", 10);
+
+        assertEquals(List.of(new ProductAutocompleteIndex.Suggestion(2L, "코라떼")), suggestions);
+    }
+
+    @Test
+    void refreshReplacesIndex() {
+        refresh("새우깡");
+
+        assertTrue(names("코", 10).isEmpty());
+        assertEquals(List.of("새우깡"), names("ㅅㅇ", 10));
+    }
+
+    private void refresh(String... names) {
+        long[] ids = new long[names.length];
+        for (int i = 0; i < names.length; i++) {
+            ids[i] = i + 1;
+        }
+        index.onCatalogRefreshed(new ProductCatalogRefreshedEvent(ids, names));
+    }
+
+    private List<String> names(String prefix, int limit) {
+        return index.complete(prefix, limit).stream().map(ProductAutocompleteIndex.Suggestion::productName).toList();
+    }
+}
@@ -0,0 +1,206 @@
+package com.project.lookey.product.service;
+
+import com.project.lookey.common.cache.CacheInvalidationBus;
+import com.project.lookey.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스냅샷 조회(해시/정렬/2-gram)를 전체 상품을 순위대로 훑는 기준 구현과 비교
+ */
+class ProductCatalogTest {
+
+    // 대소문자, 소문자로 바꾸면 길이가 바뀌는 İ, trim이 지우지 않는 공백(U+2003) 포함
+    private static final char[] ALPHABET = "aAbB 가나İ\u2003".toCharArray();
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void findByNameMatchesReferenceRanking() {
+        Random random = new Random(20260417L);
+        for (int iteration = 0; iteration < 300; iteration++) {
+            List<View> products = new ArrayList<>();
+            int size = random.nextInt(30);
+            for (int i = 0; i < size; i++) {
+                // ID 순서와 입력 순서를 섞음 (같은 이름도 자주 생김)
+                products.add(new View(1000L - i * 7L, randomText(random, 1 + random.nextInt(6)), "brand" + i));
+            }
+            ProductCatalog catalog = catalog(products);
+
+            for (int query = 0; query < 50; query++) {
+                String name = randomQuery(random, products);
+                Long expected = reference(products, name).map(View::getId).orElse(null);
+                Long actual = catalog.findByName(name).map(ProductCatalog.Item::id).orElse(null);
+                assertEquals(expected, actual, () -> products + " / '" + name + "'");
+            }
+        }
+    }
+
+    @Test
+    void exactMatchBeatsCaseInsensitiveMatch() {
+        ProductCatalog catalog = catalog(List.of(
+                new View(1L, "COLA", "a"), new View(2L, "cola", "b"), new View(3L, "cola", "c")));
+
+        // 대소문자까지 같은 이름 중 ID가 가장 작은 상품
+        assertEquals(2L, catalog.findByName("cola").orElseThrow().id());
+        // 대소문자까지 같은 이름이 없으면 (정규화 이름, 이름, ID) 순
+        assertEquals(1L, catalog.findByName("Cola").orElseThrow().id());
+    }
+
+    @Test
+    void prefixMatchBeatsInfixMatch() {
+        ProductCatalog catalog = catalog(List.of(
+                new View(1L, "딸기우유", "a"), new View(2L, "우유식빵", "a"),
+                new View(3L, "초코우유", "a"), new View(4L, "바나나우유", "a")));
+
+        assertEquals("우유식빵", name(catalog, "우유"));
+        assertEquals("우유식빵", name(catalog, " 우유 "));
+        // 중간 일치끼리는 이름 순
+        assertEquals("바나나우유", name(catalog, "나우"));
+        assertEquals("딸기우유", name(catalog, "기우"));
+
+        ProductCatalog withoutPrefix = catalog(List.of(new View(1L, "초코우유", "a"), new View(2L, "딸기우유", "a")));
+        assertEquals("딸기우유", name(withoutPrefix, "우유"));
+    }
+
+    @Test
+    void singleCharacterQueryUsesPrefixOnly() {
+        ProductCatalog catalog = catalog(List.of(new View(1L, "딸기우유", "a"), new View(2L, "Coke", "a")));
+
+        // 공백이 아닌 글자가 2개 미만이면 중간 일치는 찾지 않음
+        assertTrue(catalog.findByName("유").isEmpty());
+        assertTrue(catalog.findByName(" 유 ").isEmpty());
+        assertEquals("딸기우유", name(catalog, "딸"));
+        assertEquals("Coke", name(catalog, "c"));
+        assertEquals("Coke", name(catalog, "ok"));
+        assertTrue(catalog.findByName("o").isEmpty());
+        assertTrue(catalog.findByName("   ").isEmpty());
+        assertTrue(catalog.findByName(null).isEmpty());
+    }
+
+    @Test
+    void refreshPublishesSnapshotInIdOrder() {
+        ProductCatalog catalog = catalog(List.of(new View(5L, "사이다", "a"), new View(2L, "콜라", "b")));
+        catalog.refresh();
+
+        ProductCatalogRefreshedEvent event = (ProductCatalogRefreshedEvent) events.get(0);
+        assertArrayEquals(new long[]{2L, 5L}, event.ids());
+        assertArrayEquals(new String[]{"콜라", "사이다"}, event.names());
+
+        ProductCatalog.Item item = catalog.findByName("사이다").orElseThrow();
+        assertEquals(new ProductCatalog.Item(5L, "사이다", "a", 1000, null), item);
+    }
+
+    /**
+     * 기준 구현: 대소문자까지 같은 이름(ID 순) → 없으면 정확히/앞부분/중간 일치 순위, 같은 순위는 (정규화 이름, 이름, ID) 순
+     */
+    private static Optional<View> reference(List<View> products, String name) {
+        if (name == null) return Optional.empty();
+        Optional<View> exact = products.stream()
+                .filter(product -> product.getName().equals(name))
+                .min(Comparator.comparing(View::getId));
+        if (exact.isPresent()) return exact;
+
+        String query = name.trim().toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) return Optional.empty();
+        boolean infix = query.codePoints().filter(c -> !Character.isWhitespace(c)).count() >= 2;
+
+        View best = null;
+        int bestRank = Integer.MAX_VALUE;
+        for (View product : products) {
+            String normalized = product.getName().toLowerCase(Locale.ROOT);
+            int rank = normalized.equals(query) ? 0
+                    : normalized.startsWith(query) ? 1
+                    : infix && normalized.contains(query) ? 2
+                    : -1;
+            if (rank < 0) continue;
+            if (best == null || rank < bestRank || rank == bestRank && NAME_ORDER.compare(product, best) < 0) {
+                best = product;
+                bestRank = rank;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static final Comparator<View> NAME_ORDER = Comparator
+            .comparing((View product) -> product.getName().toLowerCase(Locale.ROOT))
+            .thenComparing(View::getName)
+            .thenComparing(View::getId);
+
+    private ProductCatalog catalog(List<View> products) {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        given(productRepository.findAllForCatalog()).willReturn(new ArrayList<>(products));
+        return new ProductCatalog(productRepository, mock(CacheInvalidationBus.class), events::add);
+    }
+
+    private String name(ProductCatalog catalog, String query) {
+        return catalog.findByName(query).orElseThrow().name();
+    }
+
+    private static String randomText(Random random, int length) {
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(text);
+    }
+
+    /**
+     * 무작위 문자열 / 상품명 일부 (대소문자를 바꾸거나 앞뒤 공백을 붙임)
+     */
+    private static String randomQuery(Random random, List<View> products) {
+        if (products.isEmpty() || random.nextInt(4) == 0) {
+            return randomText(random, random.nextInt(4));
+        }
+        String name = products.get(random.nextInt(products.size())).getName();
+        int start = random.nextInt(name.length() + 1);
+        String query = random.nextBoolean() ? name : name.substring(start, start + random.nextInt(name.length() - start + 1));
+        if (random.nextInt(3) == 0) {
+            query = random.nextBoolean() ? query.toUpperCase(Locale.ROOT) : query.toLowerCase(Locale.ROOT);
+        }
+        if (random.nextInt(4) == 0) {
+            query = " " + query + " ";
+        }
+        return query;
+    }
+
+    private record View(Long id, String name, String brand) implements ProductRepository.CatalogView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getBrand() {
+            return brand;
+        }
+
+        @Override
+        public Integer getPrice() {
+            return 1000;
+        }
+
+        @Override
+        public String getEvent() {
+            return null;
+        }
+    }
+}
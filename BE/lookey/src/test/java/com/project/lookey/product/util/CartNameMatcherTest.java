@@ -0,0 +1,157 @@
+package com.project.lookey.product.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 컴파일된 매처를 장바구니 전체에 ProductNameUtil.isMatch를 OR 한 결과와 비교
+ */
+class CartNameMatcherTest {
+
+    // 작은 알파벳: 반복 문자(접미사 오토마타 상태 복제)와 겹치는 접두/접미가 자주 생김
+    private static final char[] REPEATING = "aab".toCharArray();
+    // 공백 + 대소문자만 다른 문자 (K와 켈빈 기호, I와 점 없는 ı 포함)
+    private static final char[] MIXED = "aAbB 가\tKkKKıI".toCharArray();
+
+    @Test
+    void matchesLikeIsMatchOverRandomCarts() {
+        Random random = new Random(20260417L);
+        for (int iteration = 0; iteration < 5_000; iteration++) {
+            char[] alphabet = iteration % 2 == 0 ? REPEATING : MIXED;
+            List<String> cart = new ArrayList<>();
+            int cartSize = random.nextInt(5);
+            for (int i = 0; i < cartSize; i++) {
+                cart.add(randomText(random, alphabet, 1 + random.nextInt(8)));
+            }
+            CartNameMatcher matcher = compile(cart);
+
+            for (int shelf = 0; shelf < 20; shelf++) {
+                // 장바구니 상품명의 일부/확장도 섞어서 매칭되는 경우를 자주 만듦
+                String shelfName = switch (random.nextInt(3)) {
+                    case 0 -> randomText(random, alphabet, random.nextInt(10));
+                    case 1 -> cart.isEmpty() ? "" : slice(random, cart.get(random.nextInt(cart.size())));
+                    default -> cart.isEmpty() ? "" : randomText(random, alphabet, random.nextInt(3))
+                            + cart.get(random.nextInt(cart.size())) + randomText(random, alphabet, random.nextInt(3));
+                };
+                assertEquals(expected(shelfName, cart), matcher.matches(shelfName), () -> cart + " / '" + shelfName + "'");
+            }
+        }
+    }
+
+    @Test
+    void ignoresWhitespaceOnBothSides() {
+        CartNameMatcher matcher = compile(List.of("코카 콜라", "칠성사이다"));
+
+        assertTrue(matcher.matches("코카콜라 제로"));
+        assertTrue(matcher.matches("코 카\t콜\n라"));
+        assertTrue(matcher.matches("칠성 사이다"));
+        // 매대 상품명이 장바구니 상품명의 일부
+        assertTrue(matcher.matches("콜 라"));
+        assertFalse(matcher.matches("펩시 콜라"));
+    }
+
+    @Test
+    void blankCartNameMatchesEveryShelfName() {
+        CartNameMatcher matcher = compile(List.of("콜라", " \t"));
+
+        assertTrue(matcher.matches("새우깡"));
+        assertTrue(matcher.matches(""));
+        assertFalse(matcher.matches(null));
+        assertEquals(expected("새우깡", List.of("콜라", " \t")), matcher.matches("새우깡"));
+    }
+
+    @Test
+    void blankShelfNameIsPartOfEveryCartName() {
+        CartNameMatcher matcher = compile(List.of("콜라"));
+
+        assertTrue(matcher.matches(""));
+        assertTrue(matcher.matches("   "));
+        assertFalse(compile(List.of()).matches(""));
+        assertFalse(CartNameMatcher.EMPTY.matches("콜라"));
+    }
+
+    @Test
+    void cartNameContainedInAnotherCartName() {
+        // 바나나우유 ⊃ 우유: Aho-Corasick 실패 링크로 짧은 이름의 종료 상태를 찾아야 함
+        CartNameMatcher matcher = compile(List.of("바나나우유", "우유"));
+
+        assertTrue(matcher.matches("딸기우유"));
+        assertTrue(matcher.matches("바나나"));
+        assertTrue(matcher.matches("나우"));
+        assertFalse(matcher.matches("바나나맛"));
+        assertFalse(matcher.matches("딸기"));
+    }
+
+    @Test
+    void repeatedCharacters() {
+        // 같은 문자가 반복되면 접미사 오토마타에서 상태 복제가 일어남
+        List<String> cart = List.of("aaab", "abab", "aab");
+        CartNameMatcher matcher = compile(cart);
+
+        for (String shelf : List.of("aaa", "aaaa", "ba", "bab", "abaa", "baab", "aabab", "bb", "aaba")) {
+            assertEquals(expected(shelf, cart), matcher.matches(shelf), shelf);
+        }
+        assertTrue(matcher.matches("aba"));
+        assertFalse(matcher.matches("aaaa"));
+        assertFalse(matcher.matches("bb"));
+    }
+
+    @Test
+    void ignoresCaseOnlyForWholeName() {
+        CartNameMatcher matcher = compile(List.of("Coke Zero"));
+
+        assertTrue(matcher.matches("coke zero"));
+        assertTrue(matcher.matches("Coke Zero Sugar"));
+        // 대소문자 무시는 전체 일치일 때만 (포함 관계는 대소문자 구분)
+        assertFalse(matcher.matches("coke zero sugar"));
+        assertFalse(matcher.matches("cokezero"));
+    }
+
+    @Test
+    void skipsNullCartNames() {
+        CartNameMatcher matcher = compile(Arrays.asList(null, "콜라"));
+
+        assertFalse(matcher.isEmpty());
+        assertTrue(matcher.matches("콜라"));
+        assertTrue(compile(Arrays.asList((String) null)).isEmpty());
+    }
+
+    /**
+     * 기준 구현: 장바구니 상품마다 ProductNameUtil.isMatch
+     */
+    private static boolean expected(String shelfName, List<String> cart) {
+        for (String cartName : cart) {
+            if (ProductNameUtil.isMatch(shelfName, cartName)) return true;
+        }
+        return false;
+    }
+
+    private static CartNameMatcher compile(List<String> cart) {
+        List<String> normalized = new ArrayList<>();
+        for (String name : cart) {
+            normalized.add(name != null ? ProductNameUtil.stripWhitespace(name) : null);
+        }
+        return CartNameMatcher.compile(cart, normalized);
+    }
+
+    private static String randomText(Random random, char[] alphabet, int length) {
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(text);
+    }
+
+    private static String slice(Random random, String text) {
+        int start = random.nextInt(text.length() + 1);
+        return text.substring(start, start + random.nextInt(text.length() - start + 1));
+    }
+}
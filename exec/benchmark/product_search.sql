@@ -0,0 +1,46 @@
+-- 상품명 검색 벤치마크 (LIKE '%q%' vs FULLTEXT ngram)
+-- 1) lookey_db_dump.sql과 migration/002_product_name_fulltext.sql을 적용한 DB에서 실행
+-- 2) 덤프의 상품(약 450개)을 250배로 복제하여 10만 건 이상의 카탈로그 생성 (brand = 'BENCH')
+-- 3) EXPLAIN ANALYZE로 두 쿼리의 실행 계획/시간 비교 후 마지막 DELETE로 정리
+
+SET SESSION cte_max_recursion_depth = 1000;
+
+INSERT INTO product (name, brand, price, event, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 250
+)
+SELECT CONCAT(p.name, ' ', seq.n), 'BENCH', p.price, p.event, NOW(6), NOW(6)
+FROM product p
+CROSS JOIN seq
+WHERE p.brand <> 'BENCH';
+
+ANALYZE TABLE product;
+SELECT COUNT(*) AS total_rows FROM product;
+
+-- 기존: 전체 스캔 + 이름 정렬, 제한 없음
+EXPLAIN ANALYZE
+SELECT p.id, p.name
+FROM product p
+WHERE p.name LIKE CONCAT('%', '콜라', '%')
+ORDER BY p.name;
+
+-- 변경: FULLTEXT 후보 + 순위 + limit 21 (ProductRepository.searchByName과 같은 형태)
+EXPLAIN ANALYZE
+SELECT ranked.id, ranked.name, ranked.rank_no
+FROM (
+    SELECT p.id, p.name,
+           CAST(CASE
+               WHEN p.name = '콜라' THEN 0
+               WHEN p.name LIKE CONCAT('콜라', '%') THEN 1
+               ELSE 2
+           END AS SIGNED) AS rank_no
+    FROM product p
+    WHERE MATCH(p.name) AGAINST ('"콜라"' IN BOOLEAN MODE)
+      AND p.name LIKE CONCAT('%', '콜라', '%')
+) ranked
+WHERE (ranked.rank_no, ranked.name, ranked.id) > (-1, '', 0)
+ORDER BY ranked.rank_no, ranked.name, ranked.id
+LIMIT 21;
+
+-- 정리
+DELETE FROM product WHERE brand = 'BENCH';
@@ -114,6 +114,8 @@ UNLOCK TABLES;
 DROP TABLE IF EXISTS `product`;
 /*!40101 SET @saved_cs_client     = @@character_set_client */;
 /*!50503 SET character_set_client = utf8mb4 */;
+-- ft_product_name은 불용어 없이 생성 (migration/002_product_name_fulltext.sql 참고)
+SET SESSION innodb_ft_enable_stopword = OFF;
 CREATE TABLE `product` (
   `price` int NOT NULL,
   `created_at` datetime(6) DEFAULT NULL,
@@ -123,8 +125,10 @@ CREATE TABLE `product` (
   `event` varchar(100) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
   `name` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
   PRIMARY KEY (`id`),
-  UNIQUE KEY `uk_product_name_brand` (`name`,`brand`)
+  UNIQUE KEY `uk_product_name_brand` (`name`,`brand`),
+  FULLTEXT KEY `ft_product_name` (`name`) /*!50100 WITH PARSER `ngram` */
 ) ENGINE=InnoDB AUTO_INCREMENT=449 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+SET SESSION innodb_ft_enable_stopword = ON;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
 --
@@ -149,6 +153,7 @@ CREATE TABLE `product_allergy` (
   `allergy_id` bigint NOT NULL,
   `product_id` bigint NOT NULL,
   PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_product_allergy` (`product_id`,`allergy_id`),
   KEY `FK9xh8oveh5fp7dyu7yrbans6iw` (`allergy_id`),
   KEY `FK80i4woy4lmksuknjlcrv6s7ah` (`product_id`),
   CONSTRAINT `FK80i4woy4lmksuknjlcrv6s7ah` FOREIGN KEY (`product_id`) REFERENCES `product` (`id`),
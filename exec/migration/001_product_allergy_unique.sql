@@ -0,0 +1,11 @@
+-- product_allergy (product_id, allergy_id) 중복 제거 후 유니크 키 추가
+-- 기존 DB에 한 번 적용 (새로 덤프로 생성한 DB에는 이미 포함됨)
+
+DELETE pa1 FROM product_allergy pa1
+JOIN product_allergy pa2
+  ON pa1.product_id = pa2.product_id
+ AND pa1.allergy_id = pa2.allergy_id
+ AND pa1.id > pa2.id;
+
+ALTER TABLE product_allergy
+  ADD UNIQUE KEY uk_product_allergy (product_id, allergy_id);
@@ -0,0 +1,13 @@
+-- 상품명 검색용 FULLTEXT ngram 인덱스 추가 (LIKE '%q%' 전체 스캔 대체)
+-- 기존 DB에 한 번 적용 (새로 덤프로 생성한 DB에는 이미 포함됨)
+-- ngram_token_size는 기본값 2 기준 (변경하면 product.search.ngram-token-size도 같이 변경)
+-- InnoDB 기본 불용어(a, in, to, ...)와 같은 ngram 토큰은 인덱스에서 빠지므로 불용어 없이 생성
+-- (불용어 설정은 인덱스를 만들 때 적용됨, 이 설정 전에 만든 인덱스는 아래처럼 다시 생성)
+--   ALTER TABLE product DROP INDEX ft_product_name;
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE product
+  ADD FULLTEXT INDEX ft_product_name (name) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = ON;